@@ -0,0 +1,163 @@
+package com.cedarsoftware.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups and inserts on CompactMap at sizes covering each of its storage tiers (single entry, Object[], and the
+ * Map used above compactSize()), with HashMap as a reference.  Keys are looked up with equal, not identical, Strings.
+ * The getConcurrent and getSynchronized benchmarks read one Map from 4 threads, comparing ConcurrentCompactMap with a
+ * CompactMap wrapped by Collections.synchronizedMap().
+ * <pre>
+ *     mvn -Pbenchmarks -DskipTests verify -Djmh.args="CompactMapBenchmark -prof gc"
+ * </pre>
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompactMapBenchmark {
+    @Param({"1", "8", "32", "80", "200"})
+    private int size;
+    private String[] keys;
+    private String[] lookups;
+    private String missing;
+    private Integer[] values;
+    private CompactMap<String, Integer> compactMap;
+    private CompactMap<String, Integer> ciMap;
+    private Map<String, Integer> hashMap;
+    private Map<String, Integer> frozenMap;
+    private Map<String, Integer> concurrentMap;
+    private Map<String, Integer> synchronizedMap;
+    private int next;
+
+    @Setup
+    public void setup() {
+        keys = new String[size];
+        lookups = new String[size];
+        values = new Integer[size];
+        compactMap = new CompactMap<>();
+        ciMap = new CompactCIHashMap<>();
+        hashMap = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            keys[i] = "field" + i;
+            lookups[i] = new String(keys[i].toUpperCase().toCharArray()).toLowerCase();
+            values[i] = i;
+            compactMap.put(keys[i], values[i]);
+            ciMap.put(keys[i], values[i]);
+            hashMap.put(keys[i], values[i]);
+        }
+        missing = "missingField";
+        frozenMap = compactMap.freeze();
+        concurrentMap = new ConcurrentCompactMap<>(hashMap);
+        synchronizedMap = Collections.synchronizedMap(new CompactMap<>(hashMap));
+    }
+
+    private String nextLookup() {
+        if (++next >= size) {
+            next = 0;
+        }
+        return lookups[next];
+    }
+
+    @Benchmark
+    public Integer get() {
+        return compactMap.get(nextLookup());
+    }
+
+    @Benchmark
+    public boolean containsKeyMissing() {
+        return compactMap.containsKey(missing);
+    }
+
+    @Benchmark
+    public Integer getCaseInsensitive() {
+        return ciMap.get(nextLookup());
+    }
+
+    @Benchmark
+    public Integer getFrozen() {
+        return frozenMap.get(nextLookup());
+    }
+
+    @Benchmark
+    public Map<String, Integer> freeze() {
+        return compactMap.freeze();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+    }
+
+    private String nextLookup(Cursor cursor) {
+        if (++cursor.next >= size) {
+            cursor.next = 0;
+        }
+        return lookups[cursor.next];
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer getConcurrent(Cursor cursor) {
+        return concurrentMap.get(nextLookup(cursor));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer getSynchronized(Cursor cursor) {
+        return synchronizedMap.get(nextLookup(cursor));
+    }
+
+    @Benchmark
+    public Integer getHashMap() {
+        return hashMap.get(nextLookup());
+    }
+
+    @Benchmark
+    public Map<String, Integer> build() {
+        Map<String, Integer> map = new CompactMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(keys[i], values[i]);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<String, Integer> copy() {
+        return new CompactMap<>(hashMap);
+    }
+}
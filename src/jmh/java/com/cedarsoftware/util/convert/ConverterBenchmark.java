@@ -0,0 +1,419 @@
+package com.cedarsoftware.util.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of Converter.convert() across representative pairs.  Run with the gc profiler (the default jmh.args
+ * of the benchmarks profile) to see the allocation rate (gc.alloc.rate.norm is bytes per conversion).
+ * <pre>
+ *     mvn -Pbenchmarks -DskipTests verify
+ *     mvn -Pbenchmarks -DskipTests verify -Djmh.args="ConverterBenchmark.stringTo -prof gc"
+ * </pre>
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+    private Converter converter;
+    private Converter meteredConverter;
+    private Converter cachingConverter;
+    private Converter directConverter;
+    private String intString;
+    private String decimalString;
+    // Mixed numeric Strings, cycled through so that no single input shape dominates (int overflow throws, so only
+    // the double list holds values past the long range).
+    private String[] mixedIntStrings;
+    private String[] mixedDoubleStrings;
+    private int nextMixed;
+    private String doubleString;
+    private String bigDecimalString;
+    private String amountString;
+    private String zonedDateTimeString;
+    private String logTimestamp;
+    private Integer integer;
+    private Double doubleValue;
+    private BigDecimal bigDecimal;
+    private Map<String, Object> uuidMap;
+    private FieldSink<UUID> uuidSink;
+    private FieldSink<Calendar> calendarSink;
+    private Calendar calendar;
+    private TimeUnit enumValue;
+    private String enumName;
+    private String enumNameLowerCase;
+    private StringBuilder stringBuilder;
+    private String csvLine;
+    private String payload;
+    private ByteBuffer heapBuffer;
+    private ByteBuffer directBuffer;
+
+    @Setup
+    public void setup() {
+        converter = new Converter(new DefaultConverterOptions());
+        meteredConverter = new Converter(new DefaultConverterOptions() {
+            @Override
+            public boolean isMetricsEnabled() { return true; }
+        });
+        cachingConverter = new Converter(new DefaultConverterOptions() {
+            @Override
+            public int getDateParseCacheSize() { return 1000; }
+        });
+        directConverter = new Converter(new DefaultConverterOptions() {
+            @Override
+            public boolean isDirectByteBufferEnabled() { return true; }
+        });
+        intString = "123456";
+        decimalString = "123456.0";
+        mixedIntStrings = new String[] {"45", "45.0", " 12 ", "-1234.50", "1.5e3", "-2.5E-2", "2147483647", "-2147483648"};
+        mixedDoubleStrings = new String[] {"45", "45.0", " 12 ", "-1234.50", "1.5e3", "-2.5E-2", "99999999999",
+                "12345678901234567890", "1e308", "0.1234567890123456789"};
+        doubleString = "12345.678";
+        bigDecimalString = "1234567890.123456789";
+        amountString = "-12345.67";
+        zonedDateTimeString = "2024-02-18T14:30:45.123-05:00[America/New_York]";
+        logTimestamp = "Sun Feb 18 14:30:45 EST 2024";
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 1024) {
+            text.append("{\"id\":123456,\"name\":\"Grüße\",\"active\":true},");
+        }
+        payload = text.toString();
+        byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+        heapBuffer = ByteBuffer.wrap(bytes);
+        directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes);
+        directBuffer.flip();
+        integer = 123456;
+        doubleValue = 12345.678;
+        bigDecimal = new BigDecimal("1234567890.123456789");
+        uuidMap = new LinkedHashMap<>();
+        uuidMap.put(MapConversions.MOST_SIG_BITS, 0x123e4567e89b12d3L);
+        uuidMap.put(MapConversions.LEAST_SIG_BITS, 0xa456426614174000L);
+        uuidSink = converter.newFieldSink(UUID.class);
+        calendarSink = converter.newFieldSink(Calendar.class);
+        calendar = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+        calendar.setTimeInMillis(1708266645123L);
+        enumValue = TimeUnit.SECONDS;
+        enumName = "MILLISECONDS";
+        enumNameLowerCase = "milliseconds";
+        stringBuilder = new StringBuilder("Hello, World");
+        csvLine = "123456,2024-02-18T14:30:45.123Z,123e4567-e89b-12d3-a456-426614174000";
+    }
+
+    // String to numbers
+
+    @Benchmark
+    public Integer stringToInteger() {
+        return converter.convert(intString, Integer.class);
+    }
+
+    @Benchmark
+    public int stringToIntPrimitive() {
+        return converter.convertToInt(intString);
+    }
+
+    @Benchmark
+    public Integer decimalStringToInteger() {
+        return converter.convert(decimalString, Integer.class);
+    }
+
+    @Benchmark
+    public int mixedStringsToInt() {
+        if (++nextMixed >= mixedIntStrings.length) {
+            nextMixed = 0;
+        }
+        return converter.convert(mixedIntStrings[nextMixed], int.class);
+    }
+
+    @Benchmark
+    public double mixedStringsToDouble() {
+        if (++nextMixed >= mixedDoubleStrings.length) {
+            nextMixed = 0;
+        }
+        return converter.convert(mixedDoubleStrings[nextMixed], double.class);
+    }
+
+    @Benchmark
+    public Long stringToLong() {
+        return converter.convert(intString, Long.class);
+    }
+
+    @Benchmark
+    public Double stringToDouble() {
+        return converter.convert(doubleString, Double.class);
+    }
+
+    @Benchmark
+    public BigDecimal stringToBigDecimal() {
+        return converter.convert(bigDecimalString, BigDecimal.class);
+    }
+
+    // BigDecimal/BigInteger from doubles and short decimal Strings, each next to the String round trip it replaced
+
+    @Benchmark
+    public BigDecimal amountToBigDecimal() {
+        return converter.convert(amountString, BigDecimal.class);
+    }
+
+    @Benchmark
+    public BigDecimal amountToBigDecimalParsed() {
+        return new BigDecimal(amountString);
+    }
+
+    @Benchmark
+    public BigDecimal doubleToBigDecimal() {
+        return converter.convert(doubleValue, BigDecimal.class);
+    }
+
+    @Benchmark
+    public BigDecimal doubleToBigDecimalValueOf() {
+        return BigDecimal.valueOf(doubleValue);
+    }
+
+    @Benchmark
+    public BigInteger doubleToBigInteger() {
+        return converter.convert(doubleValue, BigInteger.class);
+    }
+
+    @Benchmark
+    public BigInteger doubleToBigIntegerFormatted() {
+        double d = doubleValue;
+        return new BigInteger(String.format("%.0f", (d > 0.0) ? Math.floor(d) : Math.ceil(d)));
+    }
+
+    // Numbers to String
+
+    @Benchmark
+    public String integerToString() {
+        return converter.convert(integer, String.class);
+    }
+
+    @Benchmark
+    public String doubleToString() {
+        return converter.convert(doubleValue, String.class);
+    }
+
+    @Benchmark
+    public String bigDecimalToString() {
+        return converter.convert(bigDecimal, String.class);
+    }
+
+    // Map and date/time
+
+    @Benchmark
+    public UUID mapToUUID() {
+        return converter.convert(uuidMap, UUID.class);
+    }
+
+    // Building the Map only to convert it (as a parser would), compared to pushing the fields into a FieldSink
+
+    @Benchmark
+    public UUID newMapToUUID() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(MapConversions.MOST_SIG_BITS, 0x123e4567e89b12d3L);
+        map.put(MapConversions.LEAST_SIG_BITS, 0xa456426614174000L);
+        return converter.convert(map, UUID.class);
+    }
+
+    @Benchmark
+    public UUID fieldSinkToUUID() {
+        return uuidSink.put(MapConversions.MOST_SIG_BITS, 0x123e4567e89b12d3L).put(MapConversions.LEAST_SIG_BITS, 0xa456426614174000L).build();
+    }
+
+    @Benchmark
+    public Calendar newMapToCalendar() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(MapConversions.EPOCH_MILLIS, 1708266645123L);
+        return converter.convert(map, Calendar.class);
+    }
+
+    @Benchmark
+    public Calendar fieldSinkToCalendar() {
+        return calendarSink.put(MapConversions.EPOCH_MILLIS, 1708266645123L).build();
+    }
+
+    @Benchmark
+    public ZonedDateTime stringToZonedDateTime() {
+        return converter.convert(zonedDateTimeString, ZonedDateTime.class);
+    }
+
+    // Pairs resolved by inheritance (no direct entry for the runtime class)
+
+    @Benchmark
+    public Long gregorianCalendarToLong() {
+        return converter.convert(calendar, Long.class);
+    }
+
+    @Benchmark
+    public String enumToString() {
+        return converter.convert(enumValue, String.class);
+    }
+
+    @Benchmark
+    public TimeUnit stringToEnum() {
+        return converter.convert(enumName, TimeUnit.class);
+    }
+
+    @Benchmark
+    public TimeUnit stringToEnumIgnoreCase() {
+        return converter.convert(enumNameLowerCase, TimeUnit.class);
+    }
+
+    @Benchmark
+    public String stringBuilderToString() {
+        return converter.convert(stringBuilder, String.class);
+    }
+
+    // Cost of recording metrics (compare to stringToLong)
+
+    @Benchmark
+    public Long stringToLongWithMetrics() {
+        return meteredConverter.convert(intString, Long.class);
+    }
+
+    // Fields of a larger buffer: in place (range) versus substring then convert
+
+    @Benchmark
+    public Integer rangeToInteger() {
+        return converter.convert(csvLine, 0, 6, Integer.class);
+    }
+
+    @Benchmark
+    public Integer substringToInteger() {
+        return converter.convert(csvLine.substring(0, 6), Integer.class);
+    }
+
+    @Benchmark
+    public LocalDateTime rangeToLocalDateTime() {
+        return converter.convert(csvLine, 7, 24, LocalDateTime.class);
+    }
+
+    @Benchmark
+    public LocalDateTime substringToLocalDateTime() {
+        return converter.convert(csvLine.substring(7, 31), LocalDateTime.class);
+    }
+
+    @Benchmark
+    public UUID rangeToUUID() {
+        return converter.convert(csvLine, 32, 36, UUID.class);
+    }
+
+    @Benchmark
+    public UUID substringToUUID() {
+        return converter.convert(csvLine.substring(32, 68), UUID.class);
+    }
+
+    // Several pairs per call, so the call sites in Converter see many conversion classes, as they do in an application.
+
+    @Benchmark
+    public Object mixed() {
+        Long value = converter.convert(intString, Long.class);
+        String string = converter.convert(integer, String.class);
+        Double number = converter.convert(doubleString, Double.class);
+        Long millis = converter.convert(calendar, Long.class);
+        String name = converter.convert(enumValue, String.class);
+        return value + string.length() + number.longValue() + millis + name.length();
+    }
+
+    // Repeated non-ISO timestamp, with and without the date-time parse cache
+
+    @Benchmark
+    public Date logTimestampToDate() {
+        return converter.convert(logTimestamp, Date.class);
+    }
+
+    @Benchmark
+    public Date cachedLogTimestampToDate() {
+        return cachingConverter.convert(logTimestamp, Date.class);
+    }
+
+    // Cache hits from 4 threads sharing one Converter (the score is the total across the threads)
+    @Benchmark
+    @Threads(4)
+    public Date cachedLogTimestampToDate4Threads() {
+        return cachingConverter.convert(logTimestamp, Date.class);
+    }
+
+    // ~1KB UTF-8 payload to and from heap and direct ByteBuffers
+
+    @Benchmark
+    public String heapBufferToString() {
+        return converter.convert(heapBuffer, String.class);
+    }
+
+    @Benchmark
+    public String directBufferToString() {
+        return converter.convert(directBuffer, String.class);
+    }
+
+    @Benchmark
+    public ByteBuffer stringToHeapBuffer() {
+        return converter.convert(payload, ByteBuffer.class);
+    }
+
+    @Benchmark
+    public ByteBuffer stringToDirectBuffer() {
+        return directConverter.convert(payload, ByteBuffer.class);
+    }
+
+    /**
+     * Time to the first conversion of a new Converter, once per fork (a new JVM), as the built-in conversions are
+     * registered on first use.  Not a @State, so nothing loads Converter before the measured call.
+     * <pre>
+     *     mvn -Pbenchmarks -DskipTests verify -Djmh.args="ConverterBenchmark.FirstConversion"
+     * </pre>
+     */
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public static class FirstConversion {
+        @Benchmark
+        public Long newConverterStringToLong() {
+            return new Converter(new DefaultConverterOptions()).convert("5", Long.class);
+        }
+    }
+}
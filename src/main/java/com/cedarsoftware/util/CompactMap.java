@@ -4,6 +4,7 @@ import java.lang.reflect.Constructor;
 import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
@@ -57,9 +58,16 @@ import java.util.SortedMap;
  * **Two thru compactSize() entries**
  * In this case, the single member variable points to a single Object[] that contains all the keys and values.  The
  * keys are in the even positions, the values are in the odd positions (1 up from the key).  [0] = key, [1] = value,
- * [2] = next key, [3] = next value, and so on.  The Object[] is dynamically expanded until size() {@literal >} compactSize(). In
- * addition, it is dynamically shrunk until the size becomes 1, and then it switches to a single Map Entry or a single
- * value.<p></p>
+ * [2] = next key, [3] = next value, and so on.  The Object[] keeps spare room for entries yet to be added, growing by
+ * half its capacity (up to compactSize()) when full, so that adding an entry does not copy the array each time.  It
+ * is shrunk to half its capacity when it falls to a quarter full, and when the size becomes 1 it switches to a single
+ * Map Entry or a single value.  Call trimToSize() to release the spare room of a Map that is done growing.  One more
+ * element is kept at the end of the Object[]: an int[] holding the number of entries and each key's hash (case-folded
+ * when isCaseInsensitive()), so that a lookup compares a key only with the keys that have the same hash.  Up to a
+ * capacity of 16 entries, the hashes are scanned linearly.  Above that, the int[] also holds an open addressing hash
+ * table of entry positions, so that a key is found in one or two probes.  The table's slots are packed into the
+ * int[] as bytes (capacity below 255, as with the default compactSize() of 80) or shorts, so that it costs a fraction
+ * of the entries themselves.  Entries stay in insertion order either way.<p></p>
  *
  * **size() greater than compactSize()**
  * In this case, the single member variable points to a `Map` instance (supplied by `getNewMap()` API that user supplied.)
@@ -87,6 +95,8 @@ import java.util.SortedMap;
 public class CompactMap<K, V> implements Map<K, V>
 {
     private static final String EMPTY_MAP = "_︿_ψ_☼";
+    // Object[] storage with room for more entries than this has a hash table in its index (see newEntries()).
+    private static final int LINEAR_SCAN_LIMIT = 16;
     private Object val = EMPTY_MAP;
 
     public CompactMap()
@@ -107,7 +117,7 @@ public class CompactMap<K, V> implements Map<K, V>
     {
         if (val instanceof Object[])
         {   // 2 to compactSize
-            return ((Object[])val).length >> 1;
+            return arraySize((Object[]) val);
         }
         else if (val instanceof Map)
         {   // > compactSize
@@ -128,12 +138,17 @@ public class CompactMap<K, V> implements Map<K, V>
     }
 
     private boolean compareKeys(Object key, Object aKey)
+    {
+        return compareKeys(key, aKey, isCaseInsensitive());
+    }
+
+    static boolean compareKeys(Object key, Object aKey, boolean caseInsensitive)
     {
         if (key instanceof String)
         {
             if (aKey instanceof String)
             {
-                if (isCaseInsensitive())
+                if (caseInsensitive)
                 {
                     return ((String)aKey).equalsIgnoreCase((String) key);
                 }
@@ -148,20 +163,224 @@ public class CompactMap<K, V> implements Map<K, V>
         return Objects.equals(key, aKey);
     }
 
-    public boolean containsKey(Object key)
+    /**
+     * @return position (entry number, so key at [2 * position]) of the key in the passed in Object[] storage, or -1 if
+     * it is not present.
+     * @param hash hashKey() of the key.
+     */
+    private int findEntry(Object[] entries, Object key, int hash)
     {
-        if (val instanceof Object[])
-        {   // 2 to compactSize
-            Object[] entries = (Object[]) val;
-            final int len = entries.length;
-            for (int i=0; i < len; i += 2)
+        final int[] index = (int[]) entries[entries.length - 1];
+        final int capacity = entries.length >> 1;
+        if (index.length == capacity + 1)
+        {   // No hash table, linear scan of the hashes
+            final int size = index[0];
+            for (int pos = 0; pos < size; pos++)
             {
-                if (compareKeys(key, entries[i]))
+                if (index[pos + 1] == hash && compareKeys(key, entries[pos * 2]))
                 {
-                    return true;
+                    return pos;
                 }
             }
-            return false;
+            return -1;
+        }
+
+        final int table = capacity + 1;
+        final int shift = slotShift(capacity);
+        final int mask = ((index.length - table) << shift) - 1;
+        for (int i = spread(hash) & mask; ; i = (i + 1) & mask)
+        {
+            int slot = getSlot(index, table, shift, i);
+            if (slot == 0)
+            {
+                return -1;
+            }
+            int pos = slot - 1;
+            if (index[pos + 1] == hash && compareKeys(key, entries[pos * 2]))
+            {
+                return pos;
+            }
+        }
+    }
+
+    /**
+     * @return new, empty Object[] storage with room for capacity entries: [key, value, key, value, ...], followed by
+     * its index.  The index is an int[] holding the number of entries, then each entry's key hash (in entry order),
+     * then, when capacity is above LINEAR_SCAN_LIMIT, an open addressing hash table, at most 2/3 full, of entry
+     * positions plus one (0 marks an empty slot), packed 4, 2, or 1 to an int (see slotShift()).
+     */
+    private static Object[] newEntries(int capacity)
+    {
+        int tableSize = capacity <= LINEAR_SCAN_LIMIT ? 0 : Integer.highestOneBit((capacity * 3 + 1) / 2 - 1) << 1;
+        Object[] entries = new Object[capacity * 2 + 1];
+        entries[capacity * 2] = new int[capacity + 1 + (tableSize >> slotShift(capacity))];
+        return entries;
+    }
+
+    /**
+     * @return log2 of the hash table slots packed into each int of the index: 2 (byte slots) when the positions plus
+     * one of the passed in capacity fit in 8 bits, 1 (short slots) when they fit in 16, else 0 (int slots).
+     */
+    private static int slotShift(int capacity)
+    {
+        return capacity < 0xFF ? 2 : capacity < 0xFFFF ? 1 : 0;
+    }
+
+    private static int getSlot(int[] index, int table, int shift, int i)
+    {
+        switch (shift)
+        {
+            case 2:
+                return (index[table + (i >>> 2)] >>> ((i & 3) << 3)) & 0xFF;
+            case 1:
+                return (index[table + (i >>> 1)] >>> ((i & 1) << 4)) & 0xFFFF;
+            default:
+                return index[table + i];
+        }
+    }
+
+    /**
+     * Set the passed in (empty) slot of the hash table.
+     */
+    private static void setSlot(int[] index, int table, int shift, int i, int slot)
+    {
+        switch (shift)
+        {
+            case 2:
+                index[table + (i >>> 2)] |= slot << ((i & 3) << 3);
+                break;
+            case 1:
+                index[table + (i >>> 1)] |= slot << ((i & 1) << 4);
+                break;
+            default:
+                index[table + i] = slot;
+        }
+    }
+
+    private static int arraySize(Object[] entries)
+    {
+        return ((int[]) entries[entries.length - 1])[0];
+    }
+
+    /**
+     * Add an entry, whose key is not present, after the last entry of the passed in Object[] storage, which must
+     * have room for it.
+     */
+    private static void addEntry(Object[] entries, Object key, Object value, int hash)
+    {
+        final int[] index = (int[]) entries[entries.length - 1];
+        final int pos = index[0]++;
+        entries[pos * 2] = key;
+        entries[pos * 2 + 1] = value;
+        index[pos + 1] = hash;
+        addSlot(index, entries.length >> 1, pos);
+    }
+
+    private static void addSlot(int[] index, int capacity, int pos)
+    {
+        final int table = capacity + 1;
+        if (index.length == table)
+        {   // No hash table
+            return;
+        }
+        final int shift = slotShift(capacity);
+        final int mask = ((index.length - table) << shift) - 1;
+        int i = spread(index[pos + 1]) & mask;
+        while (getSlot(index, table, shift, i) != 0)
+        {
+            i = (i + 1) & mask;
+        }
+        setSlot(index, table, shift, i, pos + 1);
+    }
+
+    /**
+     * Remove the entry at the passed in position from the passed in Object[] storage, moving the entries after it
+     * down one position, so that insertion order is kept.
+     * @return the removed entry's value.
+     */
+    private static Object removeEntry(Object[] entries, int pos)
+    {
+        final int[] index = (int[]) entries[entries.length - 1];
+        final int capacity = entries.length >> 1;
+        final int size = --index[0];
+        Object prior = entries[pos * 2 + 1];
+        System.arraycopy(entries, pos * 2 + 2, entries, pos * 2, (size - pos) * 2);
+        entries[size * 2] = null;
+        entries[size * 2 + 1] = null;
+        System.arraycopy(index, pos + 2, index, pos + 1, size - pos);
+        if (index.length > capacity + 1)
+        {   // Positions after pos have moved, rebuild the hash table
+            Arrays.fill(index, capacity + 1, index.length, 0);
+            for (int i = 0; i < size; i++)
+            {
+                addSlot(index, capacity, i);
+            }
+        }
+        return prior;
+    }
+
+    /**
+     * @return a copy of the passed in Object[] storage with room for capacity entries (at least its size()).  The key
+     * hashes already computed are kept.
+     */
+    private static Object[] resize(Object[] entries, int capacity)
+    {
+        final int[] index = (int[]) entries[entries.length - 1];
+        final int size = index[0];
+        Object[] resized = newEntries(capacity);
+        for (int pos = 0; pos < size; pos++)
+        {
+            addEntry(resized, entries[pos * 2], entries[pos * 2 + 1], index[pos + 1]);
+        }
+        return resized;
+    }
+
+    /**
+     * Hash of the key that is equal for keys that compareKeys() finds equal (case-folded for case-insensitive
+     * String keys).
+     */
+    private int hashKey(Object key)
+    {
+        return key == this ? 37 : hashKey(key, isCaseInsensitive());
+    }
+
+    static int hashKey(Object key, boolean caseInsensitive)
+    {
+        if (key instanceof String)
+        {
+            String str = (String) key;
+            if (!caseInsensitive)
+            {
+                return str.hashCode();
+            }
+            int hash = 0;
+            final int len = str.length();
+            for (int i = 0; i < len; )
+            {   // Folded by code point, as String.equalsIgnoreCase() compares supplementary characters (JDK 16+)
+                int cp = str.codePointAt(i);
+                hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(cp));
+                i += Character.charCount(cp);
+            }
+            return hash;
+        }
+        return key == null ? 0 : key.hashCode();
+    }
+
+    /**
+     * Scatter the passed in hash over the table's low bits.  Keys like "field1", "field2", ... have consecutive String
+     * hashes, which would otherwise take consecutive slots, and a lookup of a missing key would probe the whole run.
+     */
+    private static int spread(int hash)
+    {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    public boolean containsKey(Object key)
+    {
+        if (val instanceof Object[])
+        {   // 2 to compactSize
+            return findEntry((Object[]) val, key, hashKey(key)) >= 0;
         }
         else if (val instanceof Map)
         {   // > compactSize
@@ -182,7 +401,7 @@ public class CompactMap<K, V> implements Map<K, V>
         if (val instanceof Object[])
         {   // 2 to Compactsize
             Object[] entries = (Object[]) val;
-            final int len = entries.length;
+            final int len = arraySize(entries) * 2;
             for (int i=0; i < len; i += 2)
             {
                 Object aValue = entries[i + 1];
@@ -212,16 +431,8 @@ public class CompactMap<K, V> implements Map<K, V>
         if (val instanceof Object[])
         {   // 2 to compactSize
             Object[] entries = (Object[]) val;
-            final int len = entries.length;
-            for (int i=0; i < len; i += 2)
-            {
-                Object aKey = entries[i];
-                if (compareKeys(key, aKey))
-                {
-                    return (V) entries[i + 1];
-                }
-            }
-            return null;
+            int pos = findEntry(entries, key, hashKey(key));
+            return pos < 0 ? null : (V) entries[pos * 2 + 1];
         }
         else if (val instanceof Map)
         {   // > compactSize
@@ -242,34 +453,33 @@ public class CompactMap<K, V> implements Map<K, V>
         if (val instanceof Object[])
         {   // 2 to compactSize
             Object[] entries = (Object[]) val;
-            final int len = entries.length;
-            for (int i=0; i < len; i += 2)
-            {
-                Object aKey = entries[i];
-                Object aValue = entries[i + 1];
-                if (compareKeys(key, aKey))
-                {   // Overwrite case
-                    entries[i + 1] = value;
-                    return (V) aValue;
-                }
+            final int hash = hashKey(key);
+            int pos = findEntry(entries, key, hash);
+            if (pos >= 0)
+            {   // Overwrite case
+                Object aValue = entries[pos * 2 + 1];
+                entries[pos * 2 + 1] = value;
+                return (V) aValue;
             }
 
             // Not present in Object[]
-            if (size() < compactSize())
-            {   // Grow array
-                Object[] expand = new Object[len + 2];
-                System.arraycopy(entries, 0, expand, 0, len);
+            final int size = arraySize(entries);
+            final int len = size * 2;
+            if (size < compactSize())
+            {
+                final int capacity = entries.length >> 1;
+                if (size == capacity)
+                {   // Grow array, with room for more entries than this one
+                    entries = resize(entries, Math.min(compactSize(), capacity + (capacity >> 1) + 1));
+                    val = entries;
+                }
                 // Place new entry at end
-                expand[expand.length - 2] = key;
-                expand[expand.length - 1] = value;
-                val = expand;
+                addEntry(entries, key, value, hash);
             }
             else
             {   // Switch to Map - copy entries
                 Map<K, V> map = getNewMap(size() + 1);
-                entries = (Object[]) val;
-                final int len2 = entries.length;
-                for (int i=0; i < len2; i += 2)
+                for (int i=0; i < len; i += 2)
                 {
                     Object aKey = entries[i];
                     Object aValue = entries[i + 1];
@@ -315,11 +525,10 @@ public class CompactMap<K, V> implements Map<K, V>
         }
         else
         {   // CompactMapEntry to []
-            Object[] entries = new Object[4];
-            entries[0] = getLogicalSingleKey();
-            entries[1] = getLogicalSingleValue();
-            entries[2] = key;
-            entries[3] = value;
+            Object[] entries = newEntries(2);
+            K singleKey = getLogicalSingleKey();
+            addEntry(entries, singleKey, getLogicalSingleValue(), hashKey(singleKey));
+            addEntry(entries, key, value, hashKey(key));
             val = entries;
             return null;
         }
@@ -349,19 +558,16 @@ public class CompactMap<K, V> implements Map<K, V>
             }
             else
             {
-                final int len = entries.length;
-                for (int i = 0; i < len; i += 2)
-                {
-                    Object aKey = entries[i];
-                    if (compareKeys(key, aKey))
-                    {   // Found, must shrink
-                        Object prior = entries[i + 1];
-                        Object[] shrink = new Object[len - 2];
-                        System.arraycopy(entries, 0, shrink, 0, i);
-                        System.arraycopy(entries, i + 2, shrink, i, shrink.length - i);
-                        val = shrink;
-                        return (V) prior;
+                int pos = findEntry(entries, key, hashKey(key));
+                if (pos >= 0)
+                {   // Found, move the entries after it down
+                    Object prior = removeEntry(entries, pos);
+                    final int capacity = entries.length >> 1;
+                    if (arraySize(entries) <= capacity >> 2)
+                    {   // Down to a quarter full
+                        val = resize(entries, capacity >> 1);
                     }
+                    return (V) prior;
                 }
             }
             return null;    // not found
@@ -377,15 +583,11 @@ public class CompactMap<K, V> implements Map<K, V>
 
             if (map.size() == compactSize())
             {   // Down to compactSize, need to switch to Object[]
-                Object[] entries = new Object[compactSize() * 2];
-                Iterator<Entry<K, V>> i = map.entrySet().iterator();
-                int idx = 0;
-                while (i.hasNext())
+                Object[] entries = newEntries(compactSize());
+                for (Entry<K, V> entry : map.entrySet())
                 {
-                    Entry<K, V> entry = i.next();
-                    entries[idx] = entry.getKey();
-                    entries[idx + 1] = entry.getValue();
-                    idx += 2;
+                    K aKey = entry.getKey();
+                    addEntry(entries, aKey, entry.getValue(), hashKey(aKey));
                 }
                 val = entries;
             }
@@ -416,7 +618,7 @@ public class CompactMap<K, V> implements Map<K, V>
             return;
         }
         int mSize = map.size();
-        if (val instanceof Map || mSize > compactSize())
+        if (val instanceof Map || (val == EMPTY_MAP && mSize > compactSize()))
         {
             if (val == EMPTY_MAP)
             {
@@ -425,14 +627,66 @@ public class CompactMap<K, V> implements Map<K, V>
             ((Map<K, V>) val).putAll(map);
         }
         else
-        {
+        {   // Make room for all of the entries (duplicate keys aside) at once, rather than growing as they are added
+            final int capacity = Math.min(size() + mSize, compactSize());
             for (Entry<? extends K, ? extends V> entry : map.entrySet())
             {
+                if (val instanceof Object[] && ((Object[]) val).length >> 1 < capacity)
+                {
+                    val = resize((Object[]) val, capacity);
+                }
                 put(entry.getKey(), entry.getValue());
             }
         }
     }
 
+    /**
+     * Release the spare room kept in the Object[] storage (2 to compactSize() entries) for entries yet to be added.
+     * Useful when holding many Maps that are done growing.  Does nothing at other sizes.
+     */
+    public void trimToSize()
+    {
+        if (val instanceof Object[])
+        {
+            Object[] entries = (Object[]) val;
+            if (arraySize(entries) < entries.length >> 1)
+            {
+                val = resize(entries, arraySize(entries));
+            }
+        }
+    }
+
+    /**
+     * @return an immutable snapshot of this Map (a FrozenCompactMap), with its entries in this Map's iteration order.
+     * Snapshots of Maps with the same keys, in the same order, share one array of keys (their "shape"), so that each
+     * snapshot holds only its values.  Later changes to this Map do not affect the snapshot.
+     */
+    public Map<K, V> freeze()
+    {
+        final int size = size();
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        if (val instanceof Object[])
+        {   // 2 to compactSize
+            Object[] entries = (Object[]) val;
+            for (int i = 0; i < size; i++)
+            {
+                keys[i] = entries[i * 2];
+                values[i] = entries[i * 2 + 1];
+            }
+        }
+        else
+        {
+            int i = 0;
+            for (Entry<K, V> entry : entrySet())
+            {
+                keys[i] = entry.getKey();
+                values[i++] = entry.getValue();
+            }
+        }
+        return new FrozenCompactMap<>(FrozenCompactMap.KeyShape.intern(keys, isCaseInsensitive()), values);
+    }
+
     public void clear()
     {
         val = EMPTY_MAP;
@@ -444,7 +698,7 @@ public class CompactMap<K, V> implements Map<K, V>
         {
             int h = 0;
             Object[] entries = (Object[]) val;
-            final int len = entries.length;
+            final int len = arraySize(entries) * 2;
             for (int i=0; i < len; i += 2)
             {
                 Object aKey = entries[i];
@@ -732,7 +986,7 @@ public class CompactMap<K, V> implements Map<K, V>
         if (val instanceof Object[])
         {   // 2 to compactSize - copy Object[] into Map
             Object[] entries = (Object[]) CompactMap.this.val;
-            final int len = entries.length;
+            final int len = arraySize(entries) * 2;
             for (int i=0; i < len; i += 2)
             {
                 copy.put((K)entries[i], (V)entries[i + 1]);
@@ -18,7 +18,9 @@ import java.util.Set;
  * an Object[] to a Set when the size() of the Set crosses the threshold defined by the method compactSize() (defaults
  * to 80).  After the Set crosses compactSize() size, then it uses a Set (defined by the user) to hold the items.  This
  * Set is defined by a method that can be overridden, which returns a new empty Set() for use in the {@literal >} compactSize()
- * state.<pre>
+ * state.  The Object[] keeps spare room for items yet to be added, growing by half its capacity (up to compactSize())
+ * when full, and its last element holds the number of items.  Call trimToSize() to release the spare room of a Set
+ * that is done growing.<pre>
  *
  *     Methods you may want to override:
  *
@@ -73,7 +75,7 @@ public class CompactSet<E> extends AbstractSet<E>
     {
         if (val instanceof Object[])
         {   // 1 to compactSize
-            return ((Object[])val).length;
+            return arraySize((Object[]) val);
         }
         else if (val instanceof Set)
         {   // > compactSize
@@ -115,9 +117,10 @@ public class CompactSet<E> extends AbstractSet<E>
         if (val instanceof Object[])
         {   // 1 to compactSize
             Object[] entries = (Object[]) val;
-            for (Object entry : entries)
+            final int size = arraySize(entries);
+            for (int i=0; i < size; i++)
             {
-                if (compareItems(item, entry))
+                if (compareItems(item, entries[i]))
                 {
                     return true;
                 }
@@ -168,9 +171,10 @@ public class CompactSet<E> extends AbstractSet<E>
         if (val instanceof Object[])
         {   // 1 to compactSize - copy Object[] into Set
             Object[] entries = (Object[]) CompactSet.this.val;
-            for (Object entry : entries)
+            final int size = arraySize(entries);
+            for (int i=0; i < size; i++)
             {
-                copy.add((E) entry);
+                copy.add((E) entries[i]);
             }
         }
         else if (val instanceof Set)
@@ -194,21 +198,25 @@ public class CompactSet<E> extends AbstractSet<E>
             }
 
             Object[] entries = (Object[]) val;
-            if (size() < compactSize())
-            {   // Grow array
-                Object[] expand = new Object[entries.length + 1];
-                System.arraycopy(entries, 0, expand, 0, entries.length);
+            final int size = arraySize(entries);
+            if (size < compactSize())
+            {
+                final int capacity = entries.length - 1;
+                if (size == capacity)
+                {   // Grow array, with room for more items than this one
+                    entries = resize(entries, Math.min(compactSize(), capacity + (capacity >> 1) + 1));
+                    val = entries;
+                }
                 // Place new entry at end
-                expand[expand.length - 1] = item;
-                val = expand;
+                entries[size] = item;
+                ((int[]) entries[entries.length - 1])[0]++;
             }
             else
             {   // Switch to Map - copy entries
-                Set<E> set = getNewSet(size() + 1);
-                entries = (Object[]) val;
-                for (Object anItem : entries)
+                Set<E> set = getNewSet(size + 1);
+                for (int i=0; i < size; i++)
                 {
-                    set.add((E) anItem);
+                    set.add((E) entries[i]);
                 }
                 // Place new entry
                 set.add(item);
@@ -222,32 +230,59 @@ public class CompactSet<E> extends AbstractSet<E>
             return set.add(item);
         }
         // empty
-        val = new Object[] { item };
+        Object[] entries = newEntries(1);
+        entries[0] = item;
+        ((int[]) entries[1])[0] = 1;
+        val = entries;
         return true;
     }
 
+    /**
+     * Make room for all of the items (duplicates aside) at once, rather than growing as they are added.
+     */
+    public boolean addAll(Collection<? extends E> items)
+    {
+        if (!(val instanceof Set))
+        {
+            final int capacity = Math.min(size() + items.size(), compactSize());
+            if (val instanceof Object[] && ((Object[]) val).length - 1 < capacity)
+            {
+                val = resize((Object[]) val, capacity);
+            }
+            else if (val == EMPTY_SET && capacity > 0)
+            {
+                val = newEntries(capacity);
+            }
+        }
+        return super.addAll(items);
+    }
+
     @SuppressWarnings("unchecked")
     public boolean remove(Object item)
     {
         if (val instanceof Object[])
         {
             Object[] local = (Object[]) val;
-            final int len = local.length;
+            final int size = arraySize(local);
 
-            for (int i=0; i < len; i++)
+            for (int i=0; i < size; i++)
             {
                 if (compareItems(local[i], item))
                 {
-                    if (len == 1)
+                    if (size == 1)
                     {
                         val = EMPTY_SET;
                     }
                     else
-                    {
-                        Object[] newElems = new Object[len - 1];
-                        System.arraycopy(local, i + 1, local, i, len - i - 1);
-                        System.arraycopy(local, 0, newElems, 0, len - 1);
-                        val = newElems;
+                    {   // Move the items after it down
+                        final int capacity = local.length - 1;
+                        System.arraycopy(local, i + 1, local, i, size - i - 1);
+                        local[size - 1] = null;
+                        ((int[]) local[capacity])[0]--;
+                        if (size - 1 <= capacity >> 2)
+                        {   // Down to a quarter full
+                            val = resize(local, capacity >> 1);
+                        }
                     }
                     return true;
                 }
@@ -265,13 +300,14 @@ public class CompactSet<E> extends AbstractSet<E>
 
             if (set.size() == compactSize())
             {   // Down to compactSize, need to switch to Object[]
-                Object[] entries = new Object[compactSize()];
+                Object[] entries = newEntries(compactSize());
                 Iterator<E> i = set.iterator();
                 int idx = 0;
                 while (i.hasNext())
                 {
                     entries[idx++] = i.next();
                 }
+                ((int[]) entries[idx])[0] = idx;
                 val = entries;
             }
             return removed;
@@ -286,6 +322,50 @@ public class CompactSet<E> extends AbstractSet<E>
         val = EMPTY_SET;
     }
 
+    /**
+     * Release the spare room kept in the Object[] storage (1 to compactSize() items) for items yet to be added.
+     * Useful when holding many Sets that are done growing.  Does nothing at other sizes.
+     */
+    public void trimToSize()
+    {
+        if (val instanceof Object[])
+        {
+            Object[] entries = (Object[]) val;
+            if (arraySize(entries) < entries.length - 1)
+            {
+                val = resize(entries, arraySize(entries));
+            }
+        }
+    }
+
+    /**
+     * @return new, empty Object[] storage with room for capacity items, followed by an int[] holding the number of
+     * items.
+     */
+    private static Object[] newEntries(int capacity)
+    {
+        Object[] entries = new Object[capacity + 1];
+        entries[capacity] = new int[1];
+        return entries;
+    }
+
+    private static int arraySize(Object[] entries)
+    {
+        return ((int[]) entries[entries.length - 1])[0];
+    }
+
+    /**
+     * @return a copy of the passed in Object[] storage with room for capacity items (at least its size()).
+     */
+    private static Object[] resize(Object[] entries, int capacity)
+    {
+        final int size = arraySize(entries);
+        Object[] resized = newEntries(capacity);
+        System.arraycopy(entries, 0, resized, 0, size);
+        ((int[]) resized[capacity])[0] = size;
+        return resized;
+    }
+
     /**
      * @return new empty Set instance to use when size() becomes {@literal >} compactSize().
      */
@@ -0,0 +1,512 @@
+package com.cedarsoftware.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * Thread-safe counterpart of CompactMap, for small Maps that are shared between threads and read far more often than
+ * they are written (such as per-request context Maps).  Like CompactMap, it has a single member variable, which goes
+ * from empty, to a single entry, to an Object[] of entries, and finally to a ConcurrentHashMap when the size() is
+ * {@literal >} compactSize().  Reads never lock.<p></p>
+ *
+ * **Empty, one entry, and two thru compactSize() entries**
+ * The member variable is volatile and points to immutable storage: a sentinel, an immutable Map.Entry, or an Object[]
+ * holding [key, value, key, value, ...] followed by an int[] of each key's hashCode().  A reader takes the storage
+ * once and finds the key in it, comparing hashes before calling equals().  A writer builds new storage from the
+ * current one (copy-on-write) and swaps it in with a compare-and-set, starting over if another writer swapped it
+ * first, so no update is lost.<p></p>
+ *
+ * **size() greater than compactSize()**
+ * The entries are moved (by the same compare-and-set) to a ConcurrentHashMap, and all reads and writes are delegated
+ * to it from then on.  Like a ConcurrentHashMap, the Map does not shrink back: it keeps the ConcurrentHashMap after
+ * entries are removed, or the Map is cleared, so that a writer is never left writing to storage that has been
+ * replaced.<p></p>
+ *
+ * As with ConcurrentHashMap, null keys and values are not supported.  Iterators over one to compactSize() entries
+ * iterate over the entries present when they were created.  Iterators over the ConcurrentHashMap are weakly
+ * consistent.  Neither throws ConcurrentModificationException.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+@SuppressWarnings("unchecked")
+public class ConcurrentCompactMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V>
+{
+    private static final String EMPTY_MAP = "_︿_ψ_☼";
+    private static final AtomicReferenceFieldUpdater<ConcurrentCompactMap, Object> VAL =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentCompactMap.class, Object.class, "val");
+    // Write operations, see update()
+    private static final int PUT = 0;
+    private static final int PUT_IF_ABSENT = 1;
+    private static final int REPLACE = 2;
+    private static final int REPLACE_IF_EQUAL = 3;
+    private static final int REMOVE = 4;
+    private static final int REMOVE_IF_EQUAL = 5;
+    private volatile Object val = EMPTY_MAP;
+
+    public ConcurrentCompactMap()
+    {
+        if (compactSize() < 2)
+        {
+            throw new IllegalStateException("compactSize() must be >= 2");
+        }
+    }
+
+    public ConcurrentCompactMap(Map<? extends K, ? extends V> other)
+    {
+        this();
+        putAll(other);
+    }
+
+    public int size()
+    {
+        Object current = val;
+        if (current instanceof Object[])
+        {   // 2 to compactSize
+            return ((Object[]) current).length >> 1;
+        }
+        else if (current instanceof ConcurrentHashMap)
+        {   // > compactSize
+            return ((ConcurrentHashMap<K, V>) current).size();
+        }
+        return current == EMPTY_MAP ? 0 : 1;
+    }
+
+    public boolean isEmpty()
+    {
+        return size() == 0;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return get(key) != null;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        Objects.requireNonNull(value);
+        Object current = val;
+        if (current instanceof ConcurrentHashMap)
+        {   // > compactSize
+            return ((ConcurrentHashMap<K, V>) current).containsValue(value);
+        }
+        final int size = size(current);
+        for (int pos = 0; pos < size; pos++)
+        {
+            if (value.equals(valueAt(current, pos)))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V get(Object key)
+    {
+        Object current = val;
+        if (current instanceof ConcurrentHashMap)
+        {   // > compactSize
+            return ((ConcurrentHashMap<K, V>) current).get(key);
+        }
+        int pos = indexOf(current, key, key.hashCode());
+        return pos < 0 ? null : valueAt(current, pos);
+    }
+
+    public V put(K key, V value)
+    {
+        return update(key, null, value, PUT);
+    }
+
+    public V putIfAbsent(K key, V value)
+    {
+        return update(key, null, value, PUT_IF_ABSENT);
+    }
+
+    public V replace(K key, V value)
+    {
+        return update(key, null, value, REPLACE);
+    }
+
+    public boolean replace(K key, V oldValue, V newValue)
+    {
+        return update(key, Objects.requireNonNull(oldValue), newValue, REPLACE_IF_EQUAL) != null;
+    }
+
+    public V remove(Object key)
+    {
+        return update(key, null, null, REMOVE);
+    }
+
+    public boolean remove(Object key, Object value)
+    {
+        return value != null && update(key, value, null, REMOVE_IF_EQUAL) != null;
+    }
+
+    /**
+     * Remove all entries.  Above compactSize(), the ConcurrentHashMap is cleared, and kept (see class comment).
+     */
+    public void clear()
+    {
+        for (;;)
+        {
+            Object current = val;
+            if (current instanceof ConcurrentHashMap)
+            {
+                ((ConcurrentHashMap<K, V>) current).clear();
+                return;
+            }
+            if (current == EMPTY_MAP || VAL.compareAndSet(this, current, EMPTY_MAP))
+            {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Perform a write operation, swapping in new storage (or delegating to the ConcurrentHashMap).
+     * @param expected value the entry must have for REPLACE_IF_EQUAL and REMOVE_IF_EQUAL.
+     * @param value new value, null when removing.
+     * @return the key's value before the write, or null if it was absent.  For REPLACE_IF_EQUAL and REMOVE_IF_EQUAL,
+     * null when the entry did not have the expected value (and nothing was written).
+     */
+    private V update(Object key, Object expected, V value, int op)
+    {
+        final int hash = key.hashCode();
+        if (op < REMOVE)
+        {
+            Objects.requireNonNull(value);
+        }
+        for (;;)
+        {
+            Object current = val;
+            if (current instanceof ConcurrentHashMap)
+            {   // > compactSize
+                return delegate((ConcurrentHashMap<K, V>) current, (K) key, expected, value, op);
+            }
+
+            int pos = indexOf(current, key, hash);
+            V prior = pos < 0 ? null : valueAt(current, pos);
+            boolean write;
+            switch (op)
+            {
+                case PUT:
+                    write = true;
+                    break;
+                case PUT_IF_ABSENT:
+                    write = pos < 0;
+                    break;
+                case REPLACE_IF_EQUAL:
+                case REMOVE_IF_EQUAL:
+                    write = pos >= 0 && prior.equals(expected);
+                    break;
+                default:    // REPLACE, REMOVE
+                    write = pos >= 0;
+            }
+            if (!write)
+            {
+                return op == PUT_IF_ABSENT ? prior : null;
+            }
+
+            Object next;
+            if (value == null)
+            {
+                next = without(current, pos);
+            }
+            else if (pos >= 0)
+            {
+                next = withValue(current, pos, value);
+            }
+            else
+            {
+                next = with(current, (K) key, hash, value);
+            }
+            if (VAL.compareAndSet(this, current, next))
+            {
+                return prior;
+            }
+        }
+    }
+
+    private static <K, V> V delegate(ConcurrentHashMap<K, V> map, K key, Object expected, V value, int op)
+    {
+        switch (op)
+        {
+            case PUT:
+                return map.put(key, value);
+            case PUT_IF_ABSENT:
+                return map.putIfAbsent(key, value);
+            case REPLACE:
+                return map.replace(key, value);
+            case REPLACE_IF_EQUAL:
+                return map.replace(key, (V) expected, value) ? (V) expected : null;
+            case REMOVE:
+                return map.remove(key);
+            default:    // REMOVE_IF_EQUAL
+                return map.remove(key, expected) ? (V) expected : null;
+        }
+    }
+
+    private static int size(Object storage)
+    {
+        if (storage instanceof Object[])
+        {
+            return ((Object[]) storage).length >> 1;
+        }
+        return storage == EMPTY_MAP ? 0 : 1;
+    }
+
+    private static <K> K keyAt(Object storage, int pos)
+    {
+        if (storage instanceof Object[])
+        {
+            return (K) ((Object[]) storage)[pos * 2];
+        }
+        return ((Entry<K, ?>) storage).getKey();
+    }
+
+    private static <V> V valueAt(Object storage, int pos)
+    {
+        if (storage instanceof Object[])
+        {
+            return (V) ((Object[]) storage)[pos * 2 + 1];
+        }
+        return ((Entry<?, V>) storage).getValue();
+    }
+
+    /**
+     * @return position of the key in the passed in (empty, single entry, or Object[]) storage, or -1 if it is not
+     * present.
+     */
+    private static int indexOf(Object storage, Object key, int hash)
+    {
+        if (storage instanceof Object[])
+        {
+            Object[] entries = (Object[]) storage;
+            int[] hashes = (int[]) entries[entries.length - 1];
+            for (int pos = 0; pos < hashes.length; pos++)
+            {
+                if (hashes[pos] == hash)
+                {
+                    Object aKey = entries[pos * 2];
+                    if (aKey == key || aKey.equals(key))
+                    {
+                        return pos;
+                    }
+                }
+            }
+            return -1;
+        }
+        else if (storage == EMPTY_MAP)
+        {
+            return -1;
+        }
+        Object aKey = ((Entry<?, ?>) storage).getKey();
+        return aKey == key || aKey.equals(key) ? 0 : -1;
+    }
+
+    /**
+     * @return new storage holding the entries of the passed in storage, plus the passed in (absent) key and value.
+     */
+    private Object with(Object storage, K key, int hash, V value)
+    {
+        final int size = size(storage);
+        if (size == 0)
+        {
+            return new SimpleImmutableEntry<>(key, value);
+        }
+        if (size >= compactSize())
+        {   // Move to ConcurrentHashMap
+            ConcurrentHashMap<K, V> map = new ConcurrentHashMap<>((size + 1) * 2);
+            for (int pos = 0; pos < size; pos++)
+            {
+                map.put(keyAt(storage, pos), valueAt(storage, pos));
+            }
+            map.put(key, value);
+            return map;
+        }
+        Object[] entries = new Object[size * 2 + 3];
+        int[] hashes = new int[size + 1];
+        if (size == 1)
+        {
+            Entry<K, V> entry = (Entry<K, V>) storage;
+            entries[0] = entry.getKey();
+            entries[1] = entry.getValue();
+            hashes[0] = entry.getKey().hashCode();
+        }
+        else
+        {
+            Object[] prior = (Object[]) storage;
+            System.arraycopy(prior, 0, entries, 0, size * 2);
+            System.arraycopy((int[]) prior[size * 2], 0, hashes, 0, size);
+        }
+        entries[size * 2] = key;
+        entries[size * 2 + 1] = value;
+        hashes[size] = hash;
+        entries[size * 2 + 2] = hashes;
+        return entries;
+    }
+
+    /**
+     * @return new storage holding the entries of the passed in storage, with the value at pos replaced.
+     */
+    private static <K, V> Object withValue(Object storage, int pos, V value)
+    {
+        if (storage instanceof Object[])
+        {   // Same keys, so the hashes are shared
+            Object[] entries = ((Object[]) storage).clone();
+            entries[pos * 2 + 1] = value;
+            return entries;
+        }
+        return new SimpleImmutableEntry<>(((Entry<K, V>) storage).getKey(), value);
+    }
+
+    /**
+     * @return new storage holding the entries of the passed in storage, without the one at pos.
+     */
+    private static <K, V> Object without(Object storage, int pos)
+    {
+        final int size = size(storage);
+        if (size == 1)
+        {
+            return EMPTY_MAP;
+        }
+        if (size == 2)
+        {
+            int other = 1 - pos;
+            return new SimpleImmutableEntry<>(keyAt(storage, other), valueAt(storage, other));
+        }
+        Object[] prior = (Object[]) storage;
+        int[] priorHashes = (int[]) prior[size * 2];
+        Object[] entries = new Object[size * 2 - 1];
+        int[] hashes = new int[size - 1];
+        System.arraycopy(prior, 0, entries, 0, pos * 2);
+        System.arraycopy(prior, pos * 2 + 2, entries, pos * 2, (size - pos - 1) * 2);
+        System.arraycopy(priorHashes, 0, hashes, 0, pos);
+        System.arraycopy(priorHashes, pos + 1, hashes, pos, size - pos - 1);
+        entries[size * 2 - 2] = hashes;
+        return entries;
+    }
+
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new AbstractSet<Entry<K, V>>()
+        {
+            public Iterator<Entry<K, V>> iterator()
+            {
+                Object current = val;
+                if (current instanceof ConcurrentHashMap)
+                {   // > compactSize - weakly consistent
+                    return ((ConcurrentHashMap<K, V>) current).entrySet().iterator();
+                }
+                return new SnapshotIterator(current);
+            }
+
+            public int size() { return ConcurrentCompactMap.this.size(); }
+            public void clear() { ConcurrentCompactMap.this.clear(); }
+            public boolean contains(Object o)
+            {
+                if (!(o instanceof Entry))
+                {
+                    return false;
+                }
+                Entry<?, ?> entry = (Entry<?, ?>) o;
+                V value = entry.getKey() == null ? null : get(entry.getKey());
+                return value != null && value.equals(entry.getValue());
+            }
+
+            public boolean remove(Object o)
+            {
+                if (!(o instanceof Entry))
+                {
+                    return false;
+                }
+                Entry<?, ?> entry = (Entry<?, ?>) o;
+                return entry.getKey() != null && ConcurrentCompactMap.this.remove(entry.getKey(), entry.getValue());
+            }
+        };
+    }
+
+    /**
+     * Iterates over the (immutable) storage present when it was created.  remove() and Entry.setValue() write
+     * through to the Map.
+     */
+    private final class SnapshotIterator implements Iterator<Entry<K, V>>
+    {
+        private final Object storage;
+        private final int size;
+        private int pos;
+        private K lastKey;
+
+        SnapshotIterator(Object storage)
+        {
+            this.storage = storage;
+            size = ConcurrentCompactMap.size(storage);
+        }
+
+        public boolean hasNext()
+        {
+            return pos < size;
+        }
+
+        public Entry<K, V> next()
+        {
+            if (pos >= size)
+            {
+                throw new NoSuchElementException();
+            }
+            lastKey = keyAt(storage, pos);
+            return new WriteThroughEntry(lastKey, valueAt(storage, pos++));
+        }
+
+        public void remove()
+        {
+            if (lastKey == null)
+            {
+                throw new IllegalStateException("remove() called on an Iterator before calling next()");
+            }
+            ConcurrentCompactMap.this.remove(lastKey);
+            lastKey = null;
+        }
+    }
+
+    private final class WriteThroughEntry extends SimpleEntry<K, V>
+    {
+        WriteThroughEntry(K key, V value)
+        {
+            super(key, value);
+        }
+
+        public V setValue(V value)
+        {
+            V save = super.setValue(Objects.requireNonNull(value));
+            put(getKey(), value);
+            return save;
+        }
+    }
+
+    /**
+     * @return the number of entries above which they are moved to a ConcurrentHashMap.
+     */
+    protected int compactSize() { return 80; }
+}
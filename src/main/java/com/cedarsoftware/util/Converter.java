@@ -88,7 +88,8 @@ public final class Converter
 
     /**
      * @return Map<Class, Set < Class>> which contains all supported conversions. The key of the Map is a source class,
-     * and the Set contains all the target types (classes) that the source can be converted to.
+     * and the Set contains all the target types (classes) that the source can be converted to.  The Map and Sets are
+     * unmodifiable (copy them to modify) - see {@link com.cedarsoftware.util.convert.Converter#allSupportedConversions()}.
      */
     public static Map<Class<?>, Set<Class<?>>> allSupportedConversions() {
         return instance.allSupportedConversions();
@@ -96,7 +97,9 @@ public final class Converter
 
     /**
      * @return Map<String, Set < String>> which contains all supported conversions. The key of the Map is a source class
-     * name, and the Set contains all the target class names that the source can be converted to.
+     * name, and the Set contains all the target class names that the source can be converted to.  The Map and Sets
+     * are unmodifiable (copy them to modify) - see
+     * {@link com.cedarsoftware.util.convert.Converter#getSupportedConversions()}.
      */
     public static Map<String, Set<String>> getSupportedConversions() {
         return instance.getSupportedConversions();
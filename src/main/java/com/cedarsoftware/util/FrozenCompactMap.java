@@ -0,0 +1,281 @@
+package com.cedarsoftware.util;
+
+import java.lang.ref.WeakReference;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Immutable snapshot of a CompactMap, returned by CompactMap.freeze().  The keys are held in a KeyShape, which is
+ * interned: snapshots with equal keys, in the same order and with the same case sensitivity, share one KeyShape (as
+ * objects of the same hidden class share one layout), so each snapshot holds only the shape and an array of its
+ * values, in key order.  get() finds the key's position in the shape, comparing cached key hashes, then returns the
+ * value at that position.<p></p>
+ *
+ * Keys are compared as the CompactMap compared them (equalsIgnoreCase() for String keys of case-insensitive Maps).
+ * Iteration order is the CompactMap's iteration order when it was frozen.  Methods that would modify the Map throw
+ * UnsupportedOperationException.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+@SuppressWarnings("unchecked")
+public final class FrozenCompactMap<K, V> extends AbstractMap<K, V>
+{
+    private final KeyShape shape;
+    private final Object[] values;
+
+    FrozenCompactMap(KeyShape shape, Object[] values)
+    {
+        this.shape = shape;
+        this.values = values;
+    }
+
+    KeyShape getShape()
+    {
+        return shape;
+    }
+
+    public int size()
+    {
+        return values.length;
+    }
+
+    public boolean containsKey(Object key)
+    {
+        return shape.indexOf(key) >= 0;
+    }
+
+    public boolean containsValue(Object value)
+    {
+        for (Object aValue : values)
+        {
+            if (Objects.equals(value, aValue))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public V get(Object key)
+    {
+        int pos = shape.indexOf(key);
+        return pos < 0 ? null : (V) values[pos];
+    }
+
+    public V put(K key, V value)
+    {
+        throw new UnsupportedOperationException("This map is frozen (immutable)");
+    }
+
+    public V remove(Object key)
+    {
+        throw new UnsupportedOperationException("This map is frozen (immutable)");
+    }
+
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        throw new UnsupportedOperationException("This map is frozen (immutable)");
+    }
+
+    public void clear()
+    {
+        throw new UnsupportedOperationException("This map is frozen (immutable)");
+    }
+
+    /**
+     * @return the same hashCode() as the CompactMap it was frozen from (case-insensitive for the String keys of
+     * case-insensitive Maps).
+     */
+    public int hashCode()
+    {
+        int h = 0;
+        final Object[] keys = shape.keys;
+        for (int i = 0; i < keys.length; i++)
+        {
+            Object key = keys[i];
+            int keyHash = shape.caseInsensitive && key instanceof String ?
+                    StringUtilities.hashCodeIgnoreCase((String) key) : Objects.hashCode(key);
+            h += keyHash ^ Objects.hashCode(values[i]);
+        }
+        return h;
+    }
+
+    public Set<Entry<K, V>> entrySet()
+    {
+        return new AbstractSet<Entry<K, V>>()
+        {
+            public Iterator<Entry<K, V>> iterator()
+            {
+                return new Iterator<Entry<K, V>>()
+                {
+                    int pos = 0;
+
+                    public boolean hasNext()
+                    {
+                        return pos < values.length;
+                    }
+
+                    public Entry<K, V> next()
+                    {
+                        if (pos >= values.length)
+                        {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<K, V> entry = new SimpleImmutableEntry<>((K) shape.keys[pos], (V) values[pos]);
+                        pos++;
+                        return entry;
+                    }
+                };
+            }
+
+            public int size()
+            {
+                return values.length;
+            }
+        };
+    }
+
+    /**
+     * Keys of frozen Maps, in order, with their hashes (CompactMap.hashKey()) and, above 16 keys, an open addressing
+     * hash table of key positions.  Interned in a weak pool, so a KeyShape is shared by every frozen Map with the
+     * same keys, and dropped once none of them is reachable.
+     */
+    static final class KeyShape
+    {
+        private static final int LINEAR_SCAN_LIMIT = 16;
+        private static final Map<KeyShape, WeakReference<KeyShape>> SHAPES = new WeakHashMap<>();
+        private final Object[] keys;
+        private final boolean caseInsensitive;
+        // Key hashes, in key order, followed (above LINEAR_SCAN_LIMIT keys) by a hash table of positions plus one.
+        private final int[] index;
+        private final int hash;
+
+        private KeyShape(Object[] keys, boolean caseInsensitive)
+        {
+            this.keys = keys;
+            this.caseInsensitive = caseInsensitive;
+            final int size = keys.length;
+            final int tableSize = size <= LINEAR_SCAN_LIMIT ? 0 : Integer.highestOneBit(size * 3 - 1) << 1;
+            final int mask = tableSize - 1;
+            index = new int[size + tableSize];
+            int h = caseInsensitive ? 1 : 0;
+            for (int pos = 0; pos < size; pos++)
+            {
+                int keyHash = CompactMap.hashKey(keys[pos], caseInsensitive);
+                index[pos] = keyHash;
+                h = 31 * h + keyHash;
+                if (tableSize == 0)
+                {
+                    continue;
+                }
+                int i = spread(keyHash) & mask;
+                while (index[size + i] != 0)
+                {
+                    i = (i + 1) & mask;
+                }
+                index[size + i] = pos + 1;
+            }
+            hash = h;
+        }
+
+        /**
+         * @return the KeyShape for the passed in keys (which it may hold on to, so they must not be modified after),
+         * shared with any frozen Map holding equal keys in the same order.
+         */
+        static KeyShape intern(Object[] keys, boolean caseInsensitive)
+        {
+            KeyShape shape = new KeyShape(keys, caseInsensitive);
+            synchronized (SHAPES)
+            {
+                WeakReference<KeyShape> ref = SHAPES.get(shape);
+                KeyShape interned = ref == null ? null : ref.get();
+                if (interned != null)
+                {
+                    return interned;
+                }
+                SHAPES.put(shape, new WeakReference<>(shape));
+                return shape;
+            }
+        }
+
+        /**
+         * @return position of the key, or -1 if it is not one of the keys.
+         */
+        int indexOf(Object key)
+        {
+            final int size = keys.length;
+            final int keyHash = CompactMap.hashKey(key, caseInsensitive);
+            if (index.length == size)
+            {   // No hash table, linear scan of the hashes
+                for (int pos = 0; pos < size; pos++)
+                {
+                    if (index[pos] == keyHash && CompactMap.compareKeys(key, keys[pos], caseInsensitive))
+                    {
+                        return pos;
+                    }
+                }
+                return -1;
+            }
+
+            final int mask = index.length - size - 1;
+            for (int i = spread(keyHash) & mask; ; i = (i + 1) & mask)
+            {
+                int slot = index[size + i];
+                if (slot == 0)
+                {
+                    return -1;
+                }
+                int pos = slot - 1;
+                if (index[pos] == keyHash && CompactMap.compareKeys(key, keys[pos], caseInsensitive))
+                {
+                    return pos;
+                }
+            }
+        }
+
+        private static int spread(int hash)
+        {
+            return hash ^ (hash >>> 16);
+        }
+
+        public boolean equals(Object obj)
+        {
+            if (this == obj)
+            {
+                return true;
+            }
+            if (!(obj instanceof KeyShape))
+            {
+                return false;
+            }
+            KeyShape other = (KeyShape) obj;
+            return hash == other.hash && caseInsensitive == other.caseInsensitive && Arrays.equals(keys, other.keys);
+        }
+
+        public int hashCode()
+        {
+            return hash;
+        }
+    }
+}
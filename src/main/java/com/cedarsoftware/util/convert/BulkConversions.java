@@ -0,0 +1,278 @@
+package com.cedarsoftware.util.convert;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.cedarsoftware.util.ClassUtilities;
+
+/**
+ * Element-wise conversion of whole arrays (columns) and collections.  The conversion for each distinct runtime source class is
+ * resolved once per call (or once per chunk when running in parallel), and primitive targets are written straight
+ * into the destination array without boxing when the registered conversion supports it.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class BulkConversions {
+    // Smallest slice of an array handed to a single ForkJoin task.
+    private static final int MIN_CHUNK = 4096;
+
+    private BulkConversions() {}
+
+    @SuppressWarnings("unchecked")
+    static <T> T[] toArray(Object[] source, Class<T> elementType, Converter converter) {
+        T[] target = (T[]) Array.newInstance(elementType, source.length);
+        run(source.length, converter, (start, end) -> {
+            ConverterCache cache = new ConverterCache(converter, elementType);
+            for (int i = start; i < end; i++) {
+                Object from = source[i];
+                target[i] = (T) cache.get(from).convert(from, converter);
+            }
+        });
+        return target;
+    }
+
+    static int[] toIntArray(Object[] source, int[] target, Converter converter) {
+        checkLength(source, target.length);
+        run(source.length, converter, (start, end) -> {
+            ConverterCache cache = new ConverterCache(converter, int.class);
+            for (int i = start; i < end; i++) {
+                Object from = source[i];
+                Convert<?> convert = cache.get(from);
+                if (convert instanceof ToIntConvert) {
+                    target[i] = ((ToIntConvert) convert).convertToInt(from, converter);
+                } else {
+                    target[i] = (Integer) convert.convert(from, converter);
+                }
+            }
+        });
+        return target;
+    }
+
+    static long[] toLongArray(Object[] source, long[] target, Converter converter) {
+        checkLength(source, target.length);
+        run(source.length, converter, (start, end) -> {
+            ConverterCache cache = new ConverterCache(converter, long.class);
+            for (int i = start; i < end; i++) {
+                Object from = source[i];
+                Convert<?> convert = cache.get(from);
+                if (convert instanceof ToLongConvert) {
+                    target[i] = ((ToLongConvert) convert).convertToLong(from, converter);
+                } else {
+                    target[i] = (Long) convert.convert(from, converter);
+                }
+            }
+        });
+        return target;
+    }
+
+    static double[] toDoubleArray(Object[] source, double[] target, Converter converter) {
+        checkLength(source, target.length);
+        run(source.length, converter, (start, end) -> {
+            ConverterCache cache = new ConverterCache(converter, double.class);
+            for (int i = start; i < end; i++) {
+                Object from = source[i];
+                Convert<?> convert = cache.get(from);
+                if (convert instanceof ToDoubleConvert) {
+                    target[i] = ((ToDoubleConvert) convert).convertToDouble(from, converter);
+                } else {
+                    target[i] = (Double) convert.convert(from, converter);
+                }
+            }
+        });
+        return target;
+    }
+
+    static boolean[] toBooleanArray(Object[] source, boolean[] target, Converter converter) {
+        checkLength(source, target.length);
+        run(source.length, converter, (start, end) -> {
+            ConverterCache cache = new ConverterCache(converter, boolean.class);
+            for (int i = start; i < end; i++) {
+                Object from = source[i];
+                Convert<?> convert = cache.get(from);
+                if (convert instanceof ToBooleanConvert) {
+                    target[i] = ((ToBooleanConvert) convert).convertToBoolean(from, converter);
+                } else {
+                    target[i] = (Boolean) convert.convert(from, converter);
+                }
+            }
+        });
+        return target;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, C extends Collection<T>> C toCollection(Collection<?> source, Class<T> elementType, C target, Converter converter) {
+        ConverterCache cache = new ConverterCache(converter, elementType);
+        for (Object from : source) {
+            target.add((T) cache.get(from).convert(from, converter));
+        }
+        return target;
+    }
+
+    /**
+     * Convert the source elements in chunks on the passed in Executor, then add the results to the target collection,
+     * in the source's iteration order, on the calling thread (the target collection need not be thread-safe).
+     */
+    @SuppressWarnings("unchecked")
+    static <T, C extends Collection<T>> C toCollection(Collection<?> source, Class<T> elementType, C target, Executor executor, Converter converter) {
+        Object[] values = source.toArray();
+        run(values.length, executor, (start, end) -> {
+            ConverterCache cache = new ConverterCache(converter, elementType);
+            for (int i = start; i < end; i++) {
+                Object from = values[i];
+                values[i] = cache.get(from).convert(from, converter);
+            }
+        });
+        for (Object value : values) {
+            target.add((T) value);
+        }
+        return target;
+    }
+
+    private static void checkLength(Object[] source, int targetLength) {
+        if (targetLength < source.length) {
+            throw new IllegalArgumentException("Target array length (" + targetLength + ") is smaller than source array length (" + source.length + ")");
+        }
+    }
+
+    /**
+     * Run the passed in range over [0, length), splitting it across the common ForkJoinPool when length reaches the
+     * parallel threshold from the ConverterOptions.
+     */
+    private static void run(int length, Converter converter, Range range) {
+        if (length < converter.getOptions().getParallelConversionThreshold()) {
+            range.convert(0, length);
+            return;
+        }
+        run(length, ForkJoinPool.commonPool(), range);
+    }
+
+    /**
+     * Run the passed in range over [0, length), split into chunks run on the passed in Executor, waiting for all of
+     * them to finish.  A ForkJoinPool is used for work-stealing (RecursiveAction), any other Executor is handed a
+     * few chunks per processor.  Short ranges are run on the calling thread.
+     */
+    private static void run(int length, Executor executor, Range range) {
+        if (length < MIN_CHUNK * 2) {
+            range.convert(0, length);
+            return;
+        }
+        if (executor instanceof ForkJoinPool) {
+            ForkJoinPool pool = (ForkJoinPool) executor;
+            int chunk = Math.max(MIN_CHUNK, length / (pool.getParallelism() * 4));
+            pool.invoke(new RangeTask(range, 0, length, chunk));
+            return;
+        }
+        int chunk = Math.max(MIN_CHUNK, length / (Runtime.getRuntime().availableProcessors() * 4));
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int start = 0; start < length; start += chunk) {
+            int from = start;
+            int to = Math.min(length, start + chunk);
+            chunks.add(CompletableFuture.runAsync(() -> range.convert(from, to), executor));
+        }
+        try {
+            CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            // Rethrow the conversion's own exception, as a sequential conversion would.
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    @FunctionalInterface
+    interface Range {
+        void convert(int start, int end);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private final Range range;
+        private final int start;
+        private final int end;
+        private final int chunk;
+
+        RangeTask(Range range, int start, int end, int chunk) {
+            this.range = range;
+            this.start = start;
+            this.end = end;
+            this.chunk = chunk;
+        }
+
+        protected void compute() {
+            if (end - start <= chunk) {
+                range.convert(start, end);
+                return;
+            }
+            int mid = (start + end) >>> 1;
+            invokeAll(new RangeTask(range, start, mid, chunk), new RangeTask(range, mid, end, chunk));
+        }
+    }
+
+    /**
+     * Remembers the resolved Convert for each runtime source class seen while converting to a single target type.
+     * The last class seen is checked first, as columns are usually homogeneous.  Not thread-safe - use one per thread.
+     */
+    static final class ConverterCache {
+        private final Converter converter;
+        private final Class<?> toType;
+        private final Class<?> wrapperType;
+        private Class<?> lastSource;
+        private Convert<?> lastConvert;
+        private Map<Class<?>, Convert<?>> seen;
+
+        ConverterCache(Converter converter, Class<?> toType) {
+            this.converter = converter;
+            this.toType = toType;
+            this.wrapperType = ClassUtilities.toPrimitiveWrapperClass(toType);
+        }
+
+        Convert<?> get(Object from) {
+            Class<?> source = from == null ? Void.class : from.getClass();
+            if (source == lastSource) {
+                return lastConvert;
+            }
+            Convert<?> convert = seen == null ? null : seen.get(source);
+            if (convert == null) {
+                // null is not promoted to the wrapper type, matching convert(null, toType).
+                convert = converter.resolveConverter(source, from == null ? toType : wrapperType);
+                if (convert == null) {
+                    // The same "Unsupported conversion" exception as convert(), never a cached null.
+                    throw Converter.unsupportedConversion(from, toType);
+                }
+                if (seen == null) {
+                    seen = new HashMap<>();
+                }
+                seen.put(source, convert);
+            }
+            lastSource = source;
+            lastConvert = convert;
+            return convert;
+        }
+    }
+}
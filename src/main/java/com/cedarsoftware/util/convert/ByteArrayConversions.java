@@ -32,7 +32,14 @@ final class ByteArrayConversions {
     }
 
     static ByteBuffer toByteBuffer(Object from, Converter converter) {
-        return ByteBuffer.wrap((byte[]) from);
+        byte[] bytes = (byte[]) from;
+        if (converter.getOptions().isDirectByteBufferEnabled()) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes);
+            buffer.flip();
+            return buffer;
+        }
+        return ByteBuffer.wrap(bytes);
     }
 
     static CharBuffer toCharBuffer(Object from, Converter converter) {
@@ -2,6 +2,8 @@ package com.cedarsoftware.util.convert;
 
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 
 import static com.cedarsoftware.util.ArrayUtilities.EMPTY_BYTE_ARRAY;
 
@@ -40,19 +42,34 @@ final class ByteBufferConversions {
     }
 
     static byte[] toByteArray(Object from, Converter converter) {
-        ByteBuffer buffer = toByteBuffer(from, converter);
+        ByteBuffer buffer = (ByteBuffer) from;
 
-        if (buffer == null || !buffer.hasRemaining()) {
+        if (!buffer.hasRemaining()) {
             return EMPTY_BYTE_ARRAY;
         }
+        if (buffer.hasArray()) {
+            int start = buffer.arrayOffset() + buffer.position();
+            return Arrays.copyOfRange(buffer.array(), start, start + buffer.remaining());
+        }
 
+        // Direct (or read-only) buffer - read through a duplicate, so the original's position is not changed.
         byte[] bytes = new byte[buffer.remaining()];
-        buffer.get(bytes);
+        buffer.duplicate().get(bytes);
         return bytes;
     }
 
+    /**
+     * Decode the remaining bytes with the options' charset.  A heap buffer (including a slice) is decoded straight
+     * from its backing array into the String.  A direct or read-only buffer is decoded by a reused CharsetDecoder
+     * into a pooled CharBuffer (see CharsetCoders), leaving only the String to be allocated.
+     */
     static String toString(Object from, Converter converter) {
-        return toCharBuffer(from, converter).toString();
+        ByteBuffer buffer = (ByteBuffer) from;
+        Charset charset = converter.getOptions().getCharset();
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), charset);
+        }
+        return CharsetCoders.decode(buffer, charset);
     }
 
     static char[] toCharArray(Object from, Converter converter) {
@@ -60,10 +77,10 @@ final class ByteBufferConversions {
     }
 
     static StringBuffer toStringBuffer(Object from, Converter converter) {
-        return new StringBuffer(toCharBuffer(from, converter));
+        return new StringBuffer(toString(from, converter));
     }
 
     static StringBuilder toStringBuilder(Object from, Converter converter) {
-        return new StringBuilder(toCharBuffer(from, converter));
+        return new StringBuilder(toString(from, converter));
     }
 }
@@ -43,8 +43,8 @@ final class CalendarConversions {
         return calendar.toInstant().atZone(calendar.getTimeZone().toZoneId());
     }
 
-    static Long toLong(Object from, Converter converter) {
-        return ((Calendar) from).getTime().getTime();
+    static long toLong(Object from, Converter converter) {
+        return ((Calendar) from).getTimeInMillis();
     }
 
     static double toDouble(Object from, Converter converter) {
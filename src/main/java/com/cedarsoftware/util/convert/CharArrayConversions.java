@@ -26,6 +26,9 @@ final class CharArrayConversions {
     private CharArrayConversions() {}
     
     static ByteBuffer toByteBuffer(Object from, Converter converter) {
+        if (converter.getOptions().isDirectByteBufferEnabled()) {
+            return CharsetCoders.encodeDirect(CharBuffer.wrap((char[]) from), converter.getOptions().getCharset());
+        }
         return converter.getOptions().getCharset().encode(toCharBuffer(from, converter));
     }
     
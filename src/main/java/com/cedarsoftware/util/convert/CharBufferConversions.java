@@ -39,6 +39,9 @@ final class CharBufferConversions {
     }
 
     static ByteBuffer toByteBuffer(Object from, Converter converter) {
+        if (converter.getOptions().isDirectByteBufferEnabled()) {
+            return CharsetCoders.encodeDirect((CharBuffer) from, converter.getOptions().getCharset());
+        }
         return converter.getOptions().getCharset().encode(toCharBuffer(from, converter));
     }
 
@@ -0,0 +1,178 @@
+package com.cedarsoftware.util.convert;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Per-thread CharsetEncoder and CharsetDecoder, reused across conversions, along with a pooled CharBuffer and
+ * direct ByteBuffer to code into.  Malformed and unmappable input is replaced, as Charset.encode() and
+ * Charset.decode() do.  Buffers larger than POOL_LIMIT are not kept, so a single large payload does not stay
+ * reachable from the thread.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class CharsetCoders {
+    static final int POOL_LIMIT = 64 * 1024;
+    private static final ThreadLocal<CharsetCoders> CODERS = ThreadLocal.withInitial(CharsetCoders::new);
+    private CharsetDecoder decoder;
+    private CharsetEncoder encoder;
+    private CharBuffer chars;
+    private ByteBuffer bytes;
+
+    private CharsetCoders() {}
+
+    /**
+     * Decode the remaining bytes of the passed in buffer (its position is not changed) to a String.
+     */
+    static String decode(ByteBuffer from, Charset charset) {
+        CharsetCoders coders = CODERS.get();
+        CharsetDecoder decoder = coders.decoder(charset);
+        ByteBuffer in = from.duplicate();
+        CharBuffer out = coders.charBuffer((int) Math.ceil(in.remaining() * (double) decoder.maxCharsPerByte()));
+        decoder.reset();
+        check(decoder.decode(in, out, true));
+        check(decoder.flush(out));
+        return new String(out.array(), 0, out.position());
+    }
+
+    /**
+     * Encode the passed in characters to a new direct ByteBuffer, positioned at 0 with its limit at the end of the
+     * encoded bytes.  The characters are encoded into a pooled direct buffer, then copied (native to native) into
+     * one of exactly the encoded size.  Above POOL_LIMIT, they are encoded a pooled buffer's worth at a time - see
+     * encodeChunked().
+     */
+    static ByteBuffer encodeDirect(CharSequence from, Charset charset) {
+        CharsetCoders coders = CODERS.get();
+        CharsetEncoder encoder = coders.encoder(charset);
+        CharBuffer in = from instanceof CharBuffer ? ((CharBuffer) from).duplicate() : CharBuffer.wrap(from);
+        int size = (int) Math.ceil(in.remaining() * (double) encoder.maxBytesPerChar());
+        encoder.reset();
+        if (size > POOL_LIMIT) {
+            return encodeChunked(coders, encoder, in);
+        }
+        ByteBuffer out = coders.byteBuffer(size);
+        check(encoder.encode(in, out, true));
+        check(encoder.flush(out));
+        out.flip();
+        ByteBuffer result = ByteBuffer.allocateDirect(out.remaining());
+        result.put(out);
+        result.flip();
+        return result;
+    }
+
+    /**
+     * Encode through the pooled direct buffer, one POOL_LIMIT chunk at a time, into a direct buffer first sized for
+     * the charset's average bytes per character (not its maximum, 3x the typical UTF-8 size), grown by half as
+     * needed.  Unless the estimate was exact, the result is copied into a buffer of exactly the encoded size, so that
+     * no more native memory than the encoded bytes is kept.
+     */
+    private static ByteBuffer encodeChunked(CharsetCoders coders, CharsetEncoder encoder, CharBuffer in) {
+        ByteBuffer chunk = coders.byteBuffer(POOL_LIMIT);
+        ByteBuffer out = ByteBuffer.allocateDirect((int) Math.ceil(in.remaining() * (double) encoder.averageBytesPerChar()));
+        CoderResult result;
+        do {
+            result = encoder.encode(in, chunk, true);
+            out = drain(chunk, out);
+        } while (result.isOverflow());
+        check(result);
+        do {
+            result = encoder.flush(chunk);
+            out = drain(chunk, out);
+        } while (result.isOverflow());
+        check(result);
+        out.flip();
+        if (out.limit() == out.capacity()) {
+            return out;
+        }
+        ByteBuffer exact = ByteBuffer.allocateDirect(out.limit());
+        exact.put(out);
+        exact.flip();
+        return exact;
+    }
+
+    /**
+     * Append the bytes encoded into chunk to out (growing it if need be), and clear chunk for the next ones.
+     * @return out, or the larger buffer that replaced it.
+     */
+    private static ByteBuffer drain(ByteBuffer chunk, ByteBuffer out) {
+        chunk.flip();
+        if (out.remaining() < chunk.remaining()) {
+            long needed = (long) out.position() + chunk.remaining();
+            long capacity = Math.max(needed, out.capacity() + (long) (out.capacity() >> 1));
+            if (needed > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Encoded size exceeds the maximum ByteBuffer size");
+            }
+            ByteBuffer larger = ByteBuffer.allocateDirect((int) Math.min(capacity, Integer.MAX_VALUE));
+            out.flip();
+            larger.put(out);
+            out = larger;
+        }
+        out.put(chunk);
+        chunk.clear();
+        return out;
+    }
+
+    private static void check(CoderResult result) {
+        // Buffers are sized for the worst case (or drained and encoded into again on overflow), and errors are replaced,
+        // so only underflow (done) is expected.
+        if (!result.isUnderflow()) {
+            throw new IllegalStateException("Unexpected result coding characters: " + result);
+        }
+    }
+
+    private CharsetDecoder decoder(Charset charset) {
+        if (decoder == null || !decoder.charset().equals(charset)) {
+            decoder = charset.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        return decoder;
+    }
+
+    private CharsetEncoder encoder(Charset charset) {
+        if (encoder == null || !encoder.charset().equals(charset)) {
+            encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+        return encoder;
+    }
+
+    private CharBuffer charBuffer(int size) {
+        if (size > POOL_LIMIT) {
+            return CharBuffer.allocate(size);
+        }
+        if (chars == null || chars.capacity() < size) {
+            chars = CharBuffer.allocate(Math.max(size, 1024));
+        }
+        chars.clear();
+        return chars;
+    }
+
+    private ByteBuffer byteBuffer(int size) {
+        if (bytes == null || bytes.capacity() < size) {
+            bytes = ByteBuffer.allocateDirect(Math.min(POOL_LIMIT, Math.max(size, 1024)));
+        }
+        bytes.clear();
+        return bytes;
+    }
+}
@@ -0,0 +1,166 @@
+package com.cedarsoftware.util.convert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The direct conversions of a Converter viewed as a weighted graph: each class is a node, and each registered
+ * conversion is an edge weighted by {@link ConverterOptions#getConversionCost(Class, Class)}.  Used to find the
+ * cheapest chain of conversions for a pair that has no direct or inherited conversion, and to compile that chain
+ * into a single Convert.  A chain is at most MAX_HOPS conversions long, and passes only through classes that hold
+ * the value they were converted from: String, Boolean, AtomicBoolean and Map can end a chain, but never be a hop
+ * in the middle of one (nearly everything converts to and from String, which would make almost every pair
+ * "supported", with a meaningless result).  Immutable once built - a Converter builds a new graph after addConversion().
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class ConversionGraph {
+    static final int MAX_HOPS = 3;
+    // Classes that may be the target of the last hop of a chain, but that a chain may not pass through.
+    private static final Set<Class<?>> FINAL_ONLY = new HashSet<>(Arrays.asList(String.class, Boolean.class,
+            AtomicBoolean.class, Map.class));
+    private final Map<Class<?>, List<Edge>> edges = new HashMap<>();
+    private final ConverterOptions options;
+    // The overrides table this graph was built from, so that a Converter can tell when the graph is stale.
+    private final ConversionTable basis;
+
+    ConversionGraph(ConverterOptions options, ConversionTable basis) {
+        this.options = options;
+        this.basis = basis;
+    }
+
+    ConversionTable getBasis() {
+        return basis;
+    }
+
+    /**
+     * Add a direct conversion as an edge.  Conversions from Void (null), identity conversions, pairs registered
+     * as unsupported, and pairs with a negative cost are not useful as a hop and are left out.
+     */
+    void add(Class<?> source, Class<?> target, Convert<?> convert) {
+        if (source == Void.class || source == target || convert == Converter.UNSUPPORTED) {
+            return;
+        }
+        int cost = options.getConversionCost(source, target);
+        if (cost < 0) {
+            return;
+        }
+        // Kept in target class name order, so that the choice between equal cost paths does not vary from run to run.
+        List<Edge> list = edges.computeIfAbsent(source, k -> new ArrayList<>());
+        int i = 0;
+        while (i < list.size() && list.get(i).target.getName().compareTo(target.getName()) < 0) {
+            i++;
+        }
+        list.add(i, new Edge(target, convert, cost));
+    }
+
+    /**
+     * Find the cheapest chain of conversions from any of the source types to toType.
+     * @param sourceTypes the source class and its super classes and interfaces, each a starting point with no cost.
+     * @param toType target class, already promoted to its wrapper class if primitive.
+     * @return a single Convert that runs the chain, or null if toType cannot be reached.
+     */
+    Convert<?> findPath(Collection<Class<?>> sourceTypes, Class<?> toType) {
+        Map<Class<?>, Step> best = new HashMap<>();
+        PriorityQueue<Step> queue = new PriorityQueue<>((a, b) -> Integer.compare(a.cost, b.cost));
+        for (Class<?> sourceType : sourceTypes) {
+            Step start = new Step(sourceType, 0, 0, null, null);
+            best.put(sourceType, start);
+            queue.add(start);
+        }
+
+        while (!queue.isEmpty()) {
+            Step step = queue.poll();
+            if (step != best.get(step.node)) {
+                continue;   // superseded by a cheaper path to the same class
+            }
+            if (step.node == toType && step.convert != null) {
+                return compile(step, toType);
+            }
+            if (step.hops == MAX_HOPS || (step.convert != null && FINAL_ONLY.contains(step.node))) {
+                continue;   // a chain may not go on from here
+            }
+            List<Edge> next = edges.get(step.node);
+            if (next == null) {
+                continue;
+            }
+            for (Edge edge : next) {
+                int cost = step.cost + edge.cost;
+                Step known = best.get(edge.target);
+                if (known == null || cost < known.cost) {
+                    Step reached = new Step(edge.target, cost, step.hops + 1, edge.convert, step);
+                    best.put(edge.target, reached);
+                    queue.add(reached);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Fold the chain ending at the passed in step into one Convert, last hop innermost.  A hop that produces null
+     * ends the chain with the same result as converting null to toType.
+     */
+    private static Convert<?> compile(Step last, Class<?> toType) {
+        Convert<?> chain = last.convert;
+        for (Step step = last.previous; step.convert != null; step = step.previous) {
+            Convert<?> hop = step.convert;
+            Convert<?> rest = chain;
+            chain = (from, converter) -> {
+                Object value = hop.convert(from, converter);
+                return value == null ? converter.convert(null, toType) : rest.convert(value, converter);
+            };
+        }
+        return chain;
+    }
+
+    private static final class Edge {
+        private final Class<?> target;
+        private final Convert<?> convert;
+        private final int cost;
+
+        Edge(Class<?> target, Convert<?> convert, int cost) {
+            this.target = target;
+            this.convert = convert;
+            this.cost = cost;
+        }
+    }
+
+    private static final class Step {
+        private final Class<?> node;
+        private final int cost;
+        private final int hops;
+        private final Convert<?> convert;   // conversion that reached node, null for a starting point
+        private final Step previous;
+
+        Step(Class<?> node, int cost, int hops, Convert<?> convert, Step previous) {
+            this.node = node;
+            this.cost = cost;
+            this.hops = hops;
+            this.convert = convert;
+            this.previous = previous;
+        }
+    }
+}
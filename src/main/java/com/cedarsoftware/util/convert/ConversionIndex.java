@@ -0,0 +1,179 @@
+package com.cedarsoftware.util.convert;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+
+/**
+ * Index of the supported (registered, not UNSUPPORTED) direct conversions of a Converter: the targets of each
+ * source class, the sources of each target class, and the same by short class name.  Built once, then updated in
+ * place by add() - only the entries of the added pair's source and target (and the source's short name) are
+ * replaced, each with a new unmodifiable set, so a registration costs the size of those sets, not of the index.
+ * The maps handed out are unmodifiable, live views of concurrent maps, so they may be read (and iterated, weakly
+ * consistent) while a conversion is added.  The targets and sources of a class are looked up in hash maps keyed
+ * by Class, O(1); the sorted targets map is kept for the whole-index view (allSupportedConversions()).
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class ConversionIndex {
+    private static final Comparator<Class<?>> BY_NAME = (c1, c2) -> c1.getName().compareToIgnoreCase(c2.getName());
+    private static final Comparator<String> BY_SHORT_NAME = String::compareToIgnoreCase;
+    // The overrides table this index was built from (or last updated with), so that a Converter can tell when the
+    // index is stale.
+    private volatile ConversionTable basis;
+    private final ConcurrentSkipListMap<Class<?>, Set<Class<?>>> targets = new ConcurrentSkipListMap<>(BY_NAME);
+    private final Map<Class<?>, Set<Class<?>>> targetsByClass = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Set<Class<?>>> sources = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<String>> names = new ConcurrentSkipListMap<>(BY_SHORT_NAME);
+    // Source classes by short name, as more than one class may have the same short name.  Guarded by this index.
+    private final Map<String, Set<Class<?>>> sourcesByName = new HashMap<>();
+    private final SortedMap<Class<?>, Set<Class<?>>> targetsView = Collections.unmodifiableSortedMap(targets);
+    private final SortedMap<String, Set<String>> namesView = Collections.unmodifiableSortedMap(names);
+
+    private ConversionIndex(ConversionTable basis) {
+        this.basis = basis;
+    }
+
+    /**
+     * Build an index of the (supported) conversions passed to the visitor by the passed in forEach.
+     * @param basis the overrides table the conversions were read with.
+     */
+    static ConversionIndex build(ConversionTable basis, Consumer<ConversionTable.Visitor> forEach) {
+        ConversionIndex index = new ConversionIndex(basis);
+        Map<Class<?>, SortedSet<Class<?>>> targets = new HashMap<>();
+        Map<Class<?>, SortedSet<Class<?>>> sources = new HashMap<>();
+        Map<String, SortedSet<String>> names = new HashMap<>();
+        forEach.accept((source, target, convert) -> {
+            targets.computeIfAbsent(source, k -> new TreeSet<>(BY_NAME)).add(target);
+            sources.computeIfAbsent(target, k -> new TreeSet<>(BY_NAME)).add(source);
+            String name = Converter.getShortName(source);
+            names.computeIfAbsent(name, k -> new TreeSet<>(BY_SHORT_NAME)).add(Converter.getShortName(target));
+            index.sourcesByName.computeIfAbsent(name, k -> new LinkedHashSet<>()).add(source);
+        });
+        targets.forEach((source, set) -> {
+            Set<Class<?>> values = Collections.unmodifiableSortedSet(set);
+            index.targets.put(source, values);
+            index.targetsByClass.put(source, values);
+        });
+        sources.forEach((target, set) -> index.sources.put(target, Collections.unmodifiableSortedSet(set)));
+        names.forEach((name, set) -> index.names.put(name, Collections.unmodifiableSortedSet(set)));
+        return index;
+    }
+
+    ConversionTable getBasis() {
+        return basis;
+    }
+
+    /**
+     * Add the passed in pair to the index (supported is true), or remove it (supported is false).
+     * @param basis the overrides table holding the change.
+     */
+    synchronized void add(ConversionTable basis, Class<?> source, Class<?> target, boolean supported) {
+        Set<Class<?>> sourceTargets = update(targetsByClass, source, target, supported);
+        if (sourceTargets == null) {
+            targets.remove(source);
+        } else {
+            targets.put(source, sourceTargets);
+        }
+        update(sources, target, source, supported);
+
+        // Rebuilt from the targets of the classes with the source's short name.
+        String name = Converter.getShortName(source);
+        Set<Class<?>> named = sourcesByName.computeIfAbsent(name, k -> new LinkedHashSet<>());
+        if (sourceTargets == null) {
+            named.remove(source);
+        } else {
+            named.add(source);
+        }
+        SortedSet<String> targetNames = new TreeSet<>(BY_SHORT_NAME);
+        for (Class<?> type : named) {
+            for (Class<?> targetType : targetsByClass.get(type)) {
+                targetNames.add(Converter.getShortName(targetType));
+            }
+        }
+        if (targetNames.isEmpty()) {
+            names.remove(name);
+            sourcesByName.remove(name);
+        } else {
+            names.put(name, Collections.unmodifiableSortedSet(targetNames));
+        }
+        this.basis = basis;
+    }
+
+    /**
+     * Replace the set of the passed in key with a copy holding (or no longer holding) the passed in value.
+     * @return the new set, or null if it is empty (and the key was removed).
+     */
+    private static Set<Class<?>> update(Map<Class<?>, Set<Class<?>>> index, Class<?> key, Class<?> value, boolean add) {
+        Set<Class<?>> prior = index.get(key);
+        SortedSet<Class<?>> values = new TreeSet<>(BY_NAME);
+        if (prior != null) {
+            values.addAll(prior);
+        }
+        if (add) {
+            values.add(value);
+        } else {
+            values.remove(value);
+        }
+        if (values.isEmpty()) {
+            index.remove(key);
+            return null;
+        }
+        Set<Class<?>> set = Collections.unmodifiableSortedSet(values);
+        index.put(key, set);
+        return set;
+    }
+
+    /**
+     * @return source class to the classes it converts to.
+     */
+    Map<Class<?>, Set<Class<?>>> getTargets() {
+        return targetsView;
+    }
+
+    /**
+     * @return source class short name to the short names of the classes it converts to.
+     */
+    Map<String, Set<String>> getNames() {
+        return namesView;
+    }
+
+    /**
+     * @return the classes the passed in source class converts to, empty if none.
+     */
+    Set<Class<?>> getTargets(Class<?> source) {
+        Set<Class<?>> set = targetsByClass.get(source);
+        return set == null ? Collections.emptySet() : set;
+    }
+
+    /**
+     * @return the classes that convert to the passed in target class, empty if none.
+     */
+    Set<Class<?>> getSources(Class<?> target) {
+        Set<Class<?>> set = sources.get(target);
+        return set == null ? Collections.emptySet() : set;
+    }
+}
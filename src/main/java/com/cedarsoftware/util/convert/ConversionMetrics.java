@@ -0,0 +1,156 @@
+package com.cedarsoftware.util.convert;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Per (source, target) pair counters recorded by a Converter when metrics are enabled.  Counters are LongAdders, so
+ * threads converting the same pair concurrently do not contend on a single value.  Also the JMX view of the
+ * counters ({@link ConverterMetricsMXBean}).
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class ConversionMetrics implements ConverterMetricsMXBean {
+    // Power-of-two latency buckets, 1ns to 2^31ns (~2.1 seconds), the last bucket holding anything longer.
+    static final int BUCKETS = 32;
+    private volatile Map<Class<?>, Map<Class<?>, Counters>> counters = new ConcurrentHashMap<>();
+
+    Counters get(Class<?> source, Class<?> target) {
+        Map<Class<?>, Map<Class<?>, Counters>> sources = counters;
+        Map<Class<?>, Counters> targets = sources.get(source);
+        if (targets == null) {
+            targets = sources.computeIfAbsent(source, k -> new ConcurrentHashMap<>());
+        }
+        Counters pair = targets.get(target);
+        if (pair == null) {
+            pair = targets.computeIfAbsent(target, k -> new Counters());
+        }
+        return pair;
+    }
+
+    /**
+     * @return a snapshot of every pair converted, most converted first.
+     */
+    List<ConversionStats> snapshot() {
+        List<ConversionStats> stats = new ArrayList<>();
+        for (Map.Entry<Class<?>, Map<Class<?>, Counters>> source : counters.entrySet()) {
+            for (Map.Entry<Class<?>, Counters> target : source.getValue().entrySet()) {
+                stats.add(target.getValue().snapshot(source.getKey(), target.getKey()));
+            }
+        }
+        stats.sort(Comparator.comparingLong(ConversionStats::getCalls).reversed());
+        return stats;
+    }
+
+    public void reset() {
+        counters = new ConcurrentHashMap<>();
+    }
+
+    public long getTotalCalls() {
+        return total(ConversionStats::getCalls);
+    }
+
+    public long getTotalExceptions() {
+        return total(ConversionStats::getExceptions);
+    }
+
+    public Map<String, Long> getCallCounts() {
+        return byPair(ConversionStats::getCalls);
+    }
+
+    public Map<String, Long> getInheritanceMissCounts() {
+        return byPair(ConversionStats::getInheritanceMisses);
+    }
+
+    public Map<String, Long> getExceptionCounts() {
+        return byPair(ConversionStats::getExceptions);
+    }
+
+    public Map<String, Long> getMeanLatencyNanos() {
+        return byPair(ConversionStats::getMeanNanos);
+    }
+
+    public Map<String, Long> getP99LatencyNanos() {
+        return byPair(stats -> stats.getLatencyPercentileNanos(99.0d));
+    }
+
+    private long total(ToLongFunction<ConversionStats> value) {
+        long total = 0;
+        for (ConversionStats stats : snapshot()) {
+            total += value.applyAsLong(stats);
+        }
+        return total;
+    }
+
+    private Map<String, Long> byPair(ToLongFunction<ConversionStats> value) {
+        Map<String, Long> values = new TreeMap<>();
+        for (ConversionStats stats : snapshot()) {
+            // Full class names, as short names collide (java.util.Date and java.sql.Date).
+            values.put(stats.getSourceType().getName() + " -> " + stats.getTargetType().getName(), value.applyAsLong(stats));
+        }
+        return values;
+    }
+
+    static int bucket(long nanos) {
+        if (nanos <= 1) {
+            return 0;
+        }
+        return Math.min(BUCKETS - 1, 63 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    static final class Counters {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder inheritanceMisses = new LongAdder();
+        private final LongAdder exceptions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        Counters() {
+            for (int i = 0; i < BUCKETS; i++) {
+                histogram[i] = new LongAdder();
+            }
+        }
+
+        void record(long nanos) {
+            calls.increment();
+            totalNanos.add(nanos);
+            histogram[bucket(nanos)].increment();
+        }
+
+        void inheritanceMiss() {
+            inheritanceMisses.increment();
+        }
+
+        void exception() {
+            exceptions.increment();
+        }
+
+        ConversionStats snapshot(Class<?> source, Class<?> target) {
+            long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = histogram[i].sum();
+            }
+            return new ConversionStats(source, target, calls.sum(), inheritanceMisses.sum(), exceptions.sum(), totalNanos.sum(), counts);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.cedarsoftware.util.convert;
+
+/**
+ * A conversion from one source type to one target type that has been resolved ahead of time by
+ * {@link Converter#getConverter(Class, Class)}.  Use it when the same pair of types is converted over and over,
+ * for example, converting an entire column of Strings to LocalDates.  Each call to convert() is a direct call to
+ * the resolved conversion function - there is no table lookup, primitive promotion, or inheritance search per value.
+ * <br><br>
+ * Instances are immutable and thread-safe.
+ *
+ * @param <S> source type
+ * @param <T> target type
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+public final class ConversionPlan<S, T> {
+    private final Converter converter;
+    private final Class<S> sourceType;
+    private final Class<T> targetType;
+    private final Convert<?> convert;
+    private final Convert<?> nullConvert;
+
+    ConversionPlan(Converter converter, Class<S> sourceType, Class<T> targetType, Convert<?> convert, Convert<?> nullConvert) {
+        this.converter = converter;
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.convert = convert;
+        this.nullConvert = nullConvert;
+    }
+
+    /**
+     * Convert the passed in value to the target type of this plan.
+     * @param from value to convert.  If null, the result is the same as Converter.convert(null, targetType).
+     * @return converted value.
+     */
+    @SuppressWarnings("unchecked")
+    public T convert(S from) {
+        if (from == null) {
+            return (T) nullConvert.convert(null, converter);
+        }
+        return (T) convert.convert(from, converter);
+    }
+
+    /**
+     * @return the source type this plan was resolved for.
+     */
+    public Class<S> getSourceType() {
+        return sourceType;
+    }
+
+    /**
+     * @return the target type this plan converts to.
+     */
+    public Class<T> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * @return the Converter instance (and therefore the ConverterOptions) that conversions are performed with.
+     */
+    public Converter getConverter() {
+        return converter;
+    }
+}
@@ -0,0 +1,136 @@
+package com.cedarsoftware.util.convert;
+
+/**
+ * Point-in-time metrics for conversions of one source type to one target type, as recorded by a Converter whose
+ * options have {@link ConverterOptions#isMetricsEnabled()} true.  See {@link Converter#getConversionStats()}.
+ * <br><br>
+ * Latencies are kept in a histogram of power-of-two buckets: bucket i counts conversions that took from 2^i up to
+ * (but not including) 2^(i+1) nanoseconds, except bucket 0, which also counts 0ns, and the last bucket, which counts
+ * everything longer.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+public final class ConversionStats {
+    private final Class<?> sourceType;
+    private final Class<?> targetType;
+    private final long calls;
+    private final long inheritanceMisses;
+    private final long exceptions;
+    private final long totalNanos;
+    private final long[] latencyHistogram;
+
+    ConversionStats(Class<?> sourceType, Class<?> targetType, long calls, long inheritanceMisses, long exceptions, long totalNanos, long[] latencyHistogram) {
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.calls = calls;
+        this.inheritanceMisses = inheritanceMisses;
+        this.exceptions = exceptions;
+        this.totalNanos = totalNanos;
+        this.latencyHistogram = latencyHistogram;
+    }
+
+    /**
+     * @return the runtime class of the values converted (Void for null).
+     */
+    public Class<?> getSourceType() {
+        return sourceType;
+    }
+
+    /**
+     * @return the type converted to.  Primitive targets are reported as their wrapper class, except for null sources.
+     */
+    public Class<?> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * @return number of conversions, including those that threw an exception.
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * @return number of conversions for which there was no direct conversion for the pair, so the conversion had to
+     * be found by inheritance (super classes and interfaces), or a multi-hop path, or was not found at all.
+     */
+    public long getInheritanceMisses() {
+        return inheritanceMisses;
+    }
+
+    /**
+     * @return number of conversions that threw an exception, including "Unsupported conversion".
+     */
+    public long getExceptions() {
+        return exceptions;
+    }
+
+    /**
+     * @return total time spent in the conversions, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return average time per conversion, in nanoseconds, or 0 if there were no calls.
+     */
+    public long getMeanNanos() {
+        return calls == 0 ? 0 : totalNanos / calls;
+    }
+
+    /**
+     * @return copy of the latency histogram.  Index i is the count of conversions taking from 2^i up to 2^(i+1)
+     * nanoseconds.
+     */
+    public long[] getLatencyHistogram() {
+        return latencyHistogram.clone();
+    }
+
+    /**
+     * Approximate latency percentile from the histogram.
+     * @param percentile value from 0 to 100, for example 99.0
+     * @return the upper bound (2^(i+1) nanoseconds) of the histogram bucket holding the percentile, or 0 if there
+     * were no calls.
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be from 0 to 100, was: " + percentile);
+        }
+        long total = 0;
+        for (long count : latencyHistogram) {
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0d);
+        long seen = 0;
+        for (int i = 0; i < latencyHistogram.length; i++) {
+            seen += latencyHistogram[i];
+            if (seen >= Math.max(rank, 1)) {
+                return 1L << (i + 1);
+            }
+        }
+        return 1L << latencyHistogram.length;
+    }
+
+    public String toString() {
+        return Converter.getShortName(sourceType) + " -> " + Converter.getShortName(targetType) + ": calls=" + calls +
+                ", inheritanceMisses=" + inheritanceMisses + ", exceptions=" + exceptions + ", meanNanos=" + getMeanNanos();
+    }
+}
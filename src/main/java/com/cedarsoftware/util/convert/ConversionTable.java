@@ -0,0 +1,78 @@
+package com.cedarsoftware.util.convert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Two-level table of conversions: source class, then target class, to the Convert function.  Keyed by Class so
+ * that a lookup does not allocate a pair (Map.Entry) to probe the table.  Safe for concurrent reads and writes.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class ConversionTable {
+    private final Map<Class<?>, Map<Class<?>, Convert<?>>> table;
+
+    ConversionTable() {
+        this(16);
+    }
+
+    ConversionTable(int sources) {
+        table = new ConcurrentHashMap<>(sources);
+    }
+
+    /**
+     * @return Convert registered for the exact source and target class, or null if there is none.
+     */
+    Convert<?> get(Class<?> source, Class<?> target) {
+        Map<Class<?>, Convert<?>> targets = table.get(source);
+        return targets == null ? null : targets.get(target);
+    }
+
+    Convert<?> put(Map.Entry<Class<?>, Class<?>> pair, Convert<?> conversionFunction) {
+        return put(pair.getKey(), pair.getValue(), conversionFunction);
+    }
+
+    Convert<?> put(Class<?> source, Class<?> target, Convert<?> conversionFunction) {
+        return table.computeIfAbsent(source, k -> new ConcurrentHashMap<>()).put(target, conversionFunction);
+    }
+
+    boolean isEmpty() {
+        return table.isEmpty();
+    }
+
+    /**
+     * @return a new table holding the same entries, which can be modified without affecting this one.
+     */
+    ConversionTable copy() {
+        ConversionTable copy = new ConversionTable(Math.max(16, table.size()));
+        forEach(copy::put);
+        return copy;
+    }
+
+    void forEach(Visitor visitor) {
+        for (Map.Entry<Class<?>, Map<Class<?>, Convert<?>>> source : table.entrySet()) {
+            for (Map.Entry<Class<?>, Convert<?>> target : source.getValue().entrySet()) {
+                visitor.visit(source.getKey(), target.getKey(), target.getValue());
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(Class<?> source, Class<?> target, Convert<?> convert);
+    }
+}
@@ -1,6 +1,7 @@
 package com.cedarsoftware.util.convert;
 
 import java.io.Serializable;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
@@ -23,20 +24,27 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
-import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 import com.cedarsoftware.util.ClassUtilities;
 
@@ -77,30 +85,142 @@ import com.cedarsoftware.util.ClassUtilities;
  */
 
 public final class Converter {
-    private static final Convert<?> UNSUPPORTED = Converter::unsupported;
+    static final Convert<?> UNSUPPORTED = Converter::unsupported;
     static final String VALUE = "_v";
 
-    private final Map<Map.Entry<Class<?>, Class<?>>, Convert<?>> factory;
+    // Conversions added to this instance (options overrides and addConversion()), layered over the shared
+    // CONVERSION_DB.  Copy-on-write: replaced, never modified, once published.
+    private volatile ConversionTable overrides;
+    // Conversions found by inheritance, and pairs found to be unsupported (UNSUPPORTED), for this instance.
+    // Replaced with an empty table whenever a conversion is added.
+    private volatile ConversionTable resolved = new ConversionTable();
+    // Graph of the conversions above, built on first use when multi-hop conversions are enabled.
+    private volatile ConversionGraph graph;
+    // Index of the supported conversions above, built on first use, then updated by addConversion().
+    private volatile ConversionIndex index;
     private final ConverterOptions options;
+    // Per-pair counters, or null when metrics are not enabled (ConverterOptions.isMetricsEnabled()).
+    private final ConversionMetrics metrics;
+    // Recently parsed date-time Strings, or null when not enabled (ConverterOptions.getDateParseCacheSize()).
+    private final DateParseCache dateParseCache;
 
     private static final Map<Class<?>, Set<ClassLevel>> cacheParentTypes = new ConcurrentHashMap<>();
-    private static final Map<Map.Entry<Class<?>, Class<?>>, Convert<?>> CONVERSION_DB = new ConcurrentHashMap<>(500, .8f);
+    private static final ConversionTable EMPTY_OVERRIDES = new ConversionTable(1);
+    private static final ConversionTable CONVERSION_DB = new ConversionTable(128);
+    // Built-in conversions not yet added to CONVERSION_DB, by target class.  Each family (the conversions to one
+    // target type) is added the first time its target type is looked up, so that startup only pays for the
+    // conversions actually used.
+    private static final Map<Class<?>, ConversionFamily> UNLOADED_FAMILIES = new ConcurrentHashMap<>();
 
     // Create a Map.Entry (pair) of source class to target class.
     static Map.Entry<Class<?>, Class<?>> pair(Class<?> source, Class<?> target) {
         return new AbstractMap.SimpleImmutableEntry<>(source, target);
     }
 
+    // Register the built-in conversions, by target type.  Each loader runs on first use of its target type(s).
     static {
-        buildFactoryConversions();
+        registerFamily(Converter::loadByteConversions, byte.class, Byte.class);
+        registerFamily(Converter::loadShortConversions, short.class, Short.class);
+        registerFamily(Converter::loadIntegerConversions, int.class, Integer.class);
+        registerFamily(Converter::loadLongConversions, long.class, Long.class);
+        registerFamily(Converter::loadFloatConversions, float.class, Float.class);
+        registerFamily(Converter::loadDoubleConversions, double.class, Double.class);
+        registerFamily(Converter::loadBooleanConversions, boolean.class, Boolean.class);
+        registerFamily(Converter::loadCharacterConversions, char.class, Character.class);
+        registerFamily(Converter::loadBigIntegerConversions, BigInteger.class);
+        registerFamily(Converter::loadBigDecimalConversions, BigDecimal.class);
+        registerFamily(Converter::loadAtomicBooleanConversions, AtomicBoolean.class);
+        registerFamily(Converter::loadAtomicIntegerConversions, AtomicInteger.class);
+        registerFamily(Converter::loadAtomicLongConversions, AtomicLong.class);
+        registerFamily(Converter::loadDateConversions, Date.class);
+        registerFamily(Converter::loadSqlDateConversions, java.sql.Date.class);
+        registerFamily(Converter::loadTimestampConversions, Timestamp.class);
+        registerFamily(Converter::loadCalendarConversions, Calendar.class);
+        registerFamily(Converter::loadLocalDateConversions, LocalDate.class);
+        registerFamily(Converter::loadLocalDateTimeConversions, LocalDateTime.class);
+        registerFamily(Converter::loadLocalTimeConversions, LocalTime.class);
+        registerFamily(Converter::loadZonedDateTimeConversions, ZonedDateTime.class);
+        registerFamily(Converter::loadOffsetDateTimeConversions, OffsetDateTime.class);
+        registerFamily(Converter::loadOffsetTimeConversions, OffsetTime.class);
+        registerFamily(Converter::loadUUIDConversions, UUID.class);
+        registerFamily(Converter::loadClassConversions, Class.class);
+        registerFamily(Converter::loadLocaleConversions, Locale.class);
+        registerFamily(Converter::loadStringConversions, String.class);
+        registerFamily(Converter::loadURLConversions, URL.class);
+        registerFamily(Converter::loadURIConversions, URI.class);
+        registerFamily(Converter::loadTimeZoneConversions, TimeZone.class);
+        registerFamily(Converter::loadDurationConversions, Duration.class);
+        registerFamily(Converter::loadInstantConversions, Instant.class);
+        registerFamily(Converter::loadZoneIdConversions, ZoneId.class);
+        registerFamily(Converter::loadZoneOffsetConversions, ZoneOffset.class);
+        registerFamily(Converter::loadMonthDayConversions, MonthDay.class);
+        registerFamily(Converter::loadYearMonthConversions, YearMonth.class);
+        registerFamily(Converter::loadPeriodConversions, Period.class);
+        registerFamily(Converter::loadStringBufferConversions, StringBuffer.class);
+        registerFamily(Converter::loadStringBuilderConversions, StringBuilder.class);
+        registerFamily(Converter::loadByteArrayConversions, byte[].class);
+        registerFamily(Converter::loadCharArrayConversions, char[].class);
+        registerFamily(Converter::loadCharacterArrayConversions, Character[].class);
+        registerFamily(Converter::loadCharBufferConversions, CharBuffer.class);
+        registerFamily(Converter::loadByteBufferConversions, ByteBuffer.class);
+        registerFamily(Converter::loadYearConversions, Year.class);
+        registerFamily(Converter::loadThrowableConversions, Throwable.class);
+        registerFamily(Converter::loadMapConversions, Map.class);
     }
 
     public ConverterOptions getOptions() {
         return options;
     }
 
-    private static void buildFactoryConversions() {
-        // toByte
+    private static void registerFamily(Runnable loader, Class<?>... targets) {
+        ConversionFamily family = new ConversionFamily(loader, targets);
+        for (Class<?> target : targets) {
+            UNLOADED_FAMILIES.put(target, family);
+        }
+    }
+
+    /**
+     * Add the built-in conversions to the passed in target type to CONVERSION_DB, if not already added.  Returns
+     * once they are added, by this or another thread.
+     */
+    private static void loadFamily(Class<?> target) {
+        ConversionFamily family = UNLOADED_FAMILIES.get(target);
+        if (family != null) {
+            family.load();
+        }
+    }
+
+    private static void loadAllFamilies() {
+        for (ConversionFamily family : UNLOADED_FAMILIES.values()) {
+            family.load();
+        }
+    }
+
+    /**
+     * The built-in conversions to one target type (and its primitive, if any), added to CONVERSION_DB once.
+     */
+    private static final class ConversionFamily {
+        private final Runnable loader;
+        private final Class<?>[] targets;
+        private boolean loaded;
+
+        ConversionFamily(Runnable loader, Class<?>[] targets) {
+            this.loader = loader;
+            this.targets = targets;
+        }
+
+        synchronized void load() {
+            if (!loaded) {
+                loader.run();
+                loaded = true;
+                for (Class<?> target : targets) {
+                    UNLOADED_FAMILIES.remove(target);
+                }
+            }
+        }
+    }
+
+    private static void loadByteConversions() {
         CONVERSION_DB.put(pair(Void.class, byte.class), NumberConversions::toByteZero);
         CONVERSION_DB.put(pair(Void.class, Byte.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Byte.class, Byte.class), Converter::identity);
@@ -118,8 +238,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(BigDecimal.class, Byte.class), NumberConversions::toByte);
         CONVERSION_DB.put(pair(Map.class, Byte.class), MapConversions::toByte);
         CONVERSION_DB.put(pair(String.class, Byte.class), StringConversions::toByte);
+    }
 
-        // toShort
+    private static void loadShortConversions() {
         CONVERSION_DB.put(pair(Void.class, short.class), NumberConversions::toShortZero);
         CONVERSION_DB.put(pair(Void.class, Short.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Byte.class, Short.class), NumberConversions::toShort);
@@ -138,60 +259,63 @@ public final class Converter {
         CONVERSION_DB.put(pair(Map.class, Short.class), MapConversions::toShort);
         CONVERSION_DB.put(pair(String.class, Short.class), StringConversions::toShort);
         CONVERSION_DB.put(pair(Year.class, Short.class), YearConversions::toShort);
+    }
 
-        // toInteger
+    private static void loadIntegerConversions() {
         CONVERSION_DB.put(pair(Void.class, int.class), NumberConversions::toIntZero);
         CONVERSION_DB.put(pair(Void.class, Integer.class), VoidConversions::toNull);
-        CONVERSION_DB.put(pair(Byte.class, Integer.class), NumberConversions::toInt);
-        CONVERSION_DB.put(pair(Short.class, Integer.class), NumberConversions::toInt);
+        CONVERSION_DB.put(pair(Byte.class, Integer.class), (ToIntConvert) NumberConversions::toInt);
+        CONVERSION_DB.put(pair(Short.class, Integer.class), (ToIntConvert) NumberConversions::toInt);
         CONVERSION_DB.put(pair(Integer.class, Integer.class), Converter::identity);
-        CONVERSION_DB.put(pair(Long.class, Integer.class), NumberConversions::toInt);
-        CONVERSION_DB.put(pair(Float.class, Integer.class), NumberConversions::toInt);
-        CONVERSION_DB.put(pair(Double.class, Integer.class), NumberConversions::toInt);
+        CONVERSION_DB.put(pair(Long.class, Integer.class), (ToIntConvert) NumberConversions::toInt);
+        CONVERSION_DB.put(pair(Float.class, Integer.class), (ToIntConvert) NumberConversions::toInt);
+        CONVERSION_DB.put(pair(Double.class, Integer.class), (ToIntConvert) NumberConversions::toInt);
         CONVERSION_DB.put(pair(Boolean.class, Integer.class), BooleanConversions::toInt);
-        CONVERSION_DB.put(pair(Character.class, Integer.class), CharacterConversions::toInt);
+        CONVERSION_DB.put(pair(Character.class, Integer.class), (ToIntConvert) CharacterConversions::toInt);
         CONVERSION_DB.put(pair(AtomicBoolean.class, Integer.class), AtomicBooleanConversions::toInt);
-        CONVERSION_DB.put(pair(AtomicInteger.class, Integer.class), NumberConversions::toInt);
-        CONVERSION_DB.put(pair(AtomicLong.class, Integer.class), NumberConversions::toInt);
-        CONVERSION_DB.put(pair(BigInteger.class, Integer.class), NumberConversions::toInt);
-        CONVERSION_DB.put(pair(BigDecimal.class, Integer.class), NumberConversions::toInt);
+        CONVERSION_DB.put(pair(AtomicInteger.class, Integer.class), (ToIntConvert) NumberConversions::toInt);
+        CONVERSION_DB.put(pair(AtomicLong.class, Integer.class), (ToIntConvert) NumberConversions::toInt);
+        CONVERSION_DB.put(pair(BigInteger.class, Integer.class), (ToIntConvert) NumberConversions::toInt);
+        CONVERSION_DB.put(pair(BigDecimal.class, Integer.class), (ToIntConvert) NumberConversions::toInt);
         CONVERSION_DB.put(pair(Map.class, Integer.class), MapConversions::toInt);
-        CONVERSION_DB.put(pair(String.class, Integer.class), StringConversions::toInt);
-        CONVERSION_DB.put(pair(LocalTime.class, Integer.class), LocalTimeConversions::toInteger);
-        CONVERSION_DB.put(pair(Year.class, Integer.class), YearConversions::toInt);
+        CONVERSION_DB.put(pair(String.class, Integer.class), (ToIntConvert) StringConversions::toInt);
+        CONVERSION_DB.put(pair(LocalTime.class, Integer.class), (ToIntConvert) LocalTimeConversions::toInteger);
+        CONVERSION_DB.put(pair(Year.class, Integer.class), (ToIntConvert) YearConversions::toInt);
+    }
 
-        // toLong
+    private static void loadLongConversions() {
         CONVERSION_DB.put(pair(Void.class, long.class), NumberConversions::toLongZero);
         CONVERSION_DB.put(pair(Void.class, Long.class), VoidConversions::toNull);
-        CONVERSION_DB.put(pair(Byte.class, Long.class), NumberConversions::toLong);
-        CONVERSION_DB.put(pair(Short.class, Long.class), NumberConversions::toLong);
-        CONVERSION_DB.put(pair(Integer.class, Long.class), NumberConversions::toLong);
+        CONVERSION_DB.put(pair(Byte.class, Long.class), (ToLongConvert) NumberConversions::toLong);
+        CONVERSION_DB.put(pair(Short.class, Long.class), (ToLongConvert) NumberConversions::toLong);
+        CONVERSION_DB.put(pair(Integer.class, Long.class), (ToLongConvert) NumberConversions::toLong);
         CONVERSION_DB.put(pair(Long.class, Long.class), Converter::identity);
-        CONVERSION_DB.put(pair(Float.class, Long.class), NumberConversions::toLong);
-        CONVERSION_DB.put(pair(Double.class, Long.class), NumberConversions::toLong);
+        CONVERSION_DB.put(pair(Float.class, Long.class), (ToLongConvert) NumberConversions::toLong);
+        CONVERSION_DB.put(pair(Double.class, Long.class), (ToLongConvert) NumberConversions::toLong);
         CONVERSION_DB.put(pair(Boolean.class, Long.class), BooleanConversions::toLong);
-        CONVERSION_DB.put(pair(Character.class, Long.class), CharacterConversions::toLong);
+        CONVERSION_DB.put(pair(Character.class, Long.class), (ToLongConvert) CharacterConversions::toLong);
         CONVERSION_DB.put(pair(AtomicBoolean.class, Long.class), AtomicBooleanConversions::toLong);
-        CONVERSION_DB.put(pair(AtomicInteger.class, Long.class), NumberConversions::toLong);
-        CONVERSION_DB.put(pair(AtomicLong.class, Long.class), NumberConversions::toLong);
-        CONVERSION_DB.put(pair(BigInteger.class, Long.class), NumberConversions::toLong);
-        CONVERSION_DB.put(pair(BigDecimal.class, Long.class), NumberConversions::toLong);
-        CONVERSION_DB.put(pair(Date.class, Long.class), DateConversions::toLong);
-        CONVERSION_DB.put(pair(java.sql.Date.class, Long.class), DateConversions::toLong);
-        CONVERSION_DB.put(pair(Timestamp.class, Long.class), DateConversions::toLong);
-        CONVERSION_DB.put(pair(Instant.class, Long.class), InstantConversions::toLong);
-        CONVERSION_DB.put(pair(Duration.class, Long.class), DurationConversions::toLong);
-        CONVERSION_DB.put(pair(LocalDate.class, Long.class), LocalDateConversions::toLong);
-        CONVERSION_DB.put(pair(LocalTime.class, Long.class), LocalTimeConversions::toLong);
-        CONVERSION_DB.put(pair(LocalDateTime.class, Long.class), LocalDateTimeConversions::toLong);
-        CONVERSION_DB.put(pair(OffsetDateTime.class, Long.class), OffsetDateTimeConversions::toLong);
-        CONVERSION_DB.put(pair(ZonedDateTime.class, Long.class), ZonedDateTimeConversions::toLong);
-        CONVERSION_DB.put(pair(Calendar.class, Long.class), CalendarConversions::toLong);
+        CONVERSION_DB.put(pair(AtomicInteger.class, Long.class), (ToLongConvert) NumberConversions::toLong);
+        CONVERSION_DB.put(pair(AtomicLong.class, Long.class), (ToLongConvert) NumberConversions::toLong);
+        CONVERSION_DB.put(pair(BigInteger.class, Long.class), (ToLongConvert) NumberConversions::toLong);
+        CONVERSION_DB.put(pair(BigDecimal.class, Long.class), (ToLongConvert) NumberConversions::toLong);
+        CONVERSION_DB.put(pair(Date.class, Long.class), (ToLongConvert) DateConversions::toLong);
+        CONVERSION_DB.put(pair(java.sql.Date.class, Long.class), (ToLongConvert) DateConversions::toLong);
+        CONVERSION_DB.put(pair(Timestamp.class, Long.class), (ToLongConvert) DateConversions::toLong);
+        CONVERSION_DB.put(pair(Instant.class, Long.class), (ToLongConvert) InstantConversions::toLong);
+        CONVERSION_DB.put(pair(Duration.class, Long.class), (ToLongConvert) DurationConversions::toLong);
+        CONVERSION_DB.put(pair(LocalDate.class, Long.class), (ToLongConvert) LocalDateConversions::toLong);
+        CONVERSION_DB.put(pair(LocalTime.class, Long.class), (ToLongConvert) LocalTimeConversions::toLong);
+        CONVERSION_DB.put(pair(LocalDateTime.class, Long.class), (ToLongConvert) LocalDateTimeConversions::toLong);
+        CONVERSION_DB.put(pair(OffsetDateTime.class, Long.class), (ToLongConvert) OffsetDateTimeConversions::toLong);
+        CONVERSION_DB.put(pair(ZonedDateTime.class, Long.class), (ToLongConvert) ZonedDateTimeConversions::toLong);
+        CONVERSION_DB.put(pair(Calendar.class, Long.class), (ToLongConvert) CalendarConversions::toLong);
         CONVERSION_DB.put(pair(Map.class, Long.class), MapConversions::toLong);
-        CONVERSION_DB.put(pair(String.class, Long.class), StringConversions::toLong);
-        CONVERSION_DB.put(pair(Year.class, Long.class), YearConversions::toLong);
+        CONVERSION_DB.put(pair(String.class, Long.class), (ToLongConvert) StringConversions::toLong);
+        CONVERSION_DB.put(pair(Year.class, Long.class), (ToLongConvert) YearConversions::toLong);
+    }
 
-        // toFloat
+    private static void loadFloatConversions() {
         CONVERSION_DB.put(pair(Void.class, float.class), NumberConversions::toFloatZero);
         CONVERSION_DB.put(pair(Void.class, Float.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Byte.class, Float.class), NumberConversions::toFloat);
@@ -210,58 +334,61 @@ public final class Converter {
         CONVERSION_DB.put(pair(Map.class, Float.class), MapConversions::toFloat);
         CONVERSION_DB.put(pair(String.class, Float.class), StringConversions::toFloat);
         CONVERSION_DB.put(pair(Year.class, Float.class), YearConversions::toFloat);
+    }
 
-        // toDouble
+    private static void loadDoubleConversions() {
         CONVERSION_DB.put(pair(Void.class, double.class), NumberConversions::toDoubleZero);
         CONVERSION_DB.put(pair(Void.class, Double.class), VoidConversions::toNull);
-        CONVERSION_DB.put(pair(Byte.class, Double.class), NumberConversions::toDouble);
-        CONVERSION_DB.put(pair(Short.class, Double.class), NumberConversions::toDouble);
-        CONVERSION_DB.put(pair(Integer.class, Double.class), NumberConversions::toDouble);
-        CONVERSION_DB.put(pair(Long.class, Double.class), NumberConversions::toDouble);
-        CONVERSION_DB.put(pair(Float.class, Double.class), NumberConversions::toDouble);
+        CONVERSION_DB.put(pair(Byte.class, Double.class), (ToDoubleConvert) NumberConversions::toDouble);
+        CONVERSION_DB.put(pair(Short.class, Double.class), (ToDoubleConvert) NumberConversions::toDouble);
+        CONVERSION_DB.put(pair(Integer.class, Double.class), (ToDoubleConvert) NumberConversions::toDouble);
+        CONVERSION_DB.put(pair(Long.class, Double.class), (ToDoubleConvert) NumberConversions::toDouble);
+        CONVERSION_DB.put(pair(Float.class, Double.class), (ToDoubleConvert) NumberConversions::toDouble);
         CONVERSION_DB.put(pair(Double.class, Double.class), Converter::identity);
         CONVERSION_DB.put(pair(Boolean.class, Double.class), BooleanConversions::toDouble);
-        CONVERSION_DB.put(pair(Character.class, Double.class), CharacterConversions::toDouble);
-        CONVERSION_DB.put(pair(Duration.class, Double.class), DurationConversions::toDouble);
-        CONVERSION_DB.put(pair(Instant.class, Double.class), InstantConversions::toDouble);
-        CONVERSION_DB.put(pair(LocalTime.class, Double.class), LocalTimeConversions::toDouble);
-        CONVERSION_DB.put(pair(LocalDate.class, Double.class), LocalDateConversions::toDouble);
-        CONVERSION_DB.put(pair(LocalDateTime.class, Double.class), LocalDateTimeConversions::toDouble);
-        CONVERSION_DB.put(pair(ZonedDateTime.class, Double.class), ZonedDateTimeConversions::toDouble);
-        CONVERSION_DB.put(pair(OffsetDateTime.class, Double.class), OffsetDateTimeConversions::toDouble);
-        CONVERSION_DB.put(pair(Date.class, Double.class), DateConversions::toDouble);
-        CONVERSION_DB.put(pair(java.sql.Date.class, Double.class), DateConversions::toDouble);
-        CONVERSION_DB.put(pair(Timestamp.class, Double.class), TimestampConversions::toDouble);
+        CONVERSION_DB.put(pair(Character.class, Double.class), (ToDoubleConvert) CharacterConversions::toDouble);
+        CONVERSION_DB.put(pair(Duration.class, Double.class), (ToDoubleConvert) DurationConversions::toDouble);
+        CONVERSION_DB.put(pair(Instant.class, Double.class), (ToDoubleConvert) InstantConversions::toDouble);
+        CONVERSION_DB.put(pair(LocalTime.class, Double.class), (ToDoubleConvert) LocalTimeConversions::toDouble);
+        CONVERSION_DB.put(pair(LocalDate.class, Double.class), (ToDoubleConvert) LocalDateConversions::toDouble);
+        CONVERSION_DB.put(pair(LocalDateTime.class, Double.class), (ToDoubleConvert) LocalDateTimeConversions::toDouble);
+        CONVERSION_DB.put(pair(ZonedDateTime.class, Double.class), (ToDoubleConvert) ZonedDateTimeConversions::toDouble);
+        CONVERSION_DB.put(pair(OffsetDateTime.class, Double.class), (ToDoubleConvert) OffsetDateTimeConversions::toDouble);
+        CONVERSION_DB.put(pair(Date.class, Double.class), (ToDoubleConvert) DateConversions::toDouble);
+        CONVERSION_DB.put(pair(java.sql.Date.class, Double.class), (ToDoubleConvert) DateConversions::toDouble);
+        CONVERSION_DB.put(pair(Timestamp.class, Double.class), (ToDoubleConvert) TimestampConversions::toDouble);
         CONVERSION_DB.put(pair(AtomicBoolean.class, Double.class), AtomicBooleanConversions::toDouble);
-        CONVERSION_DB.put(pair(AtomicInteger.class, Double.class), NumberConversions::toDouble);
-        CONVERSION_DB.put(pair(AtomicLong.class, Double.class), NumberConversions::toDouble);
-        CONVERSION_DB.put(pair(BigInteger.class, Double.class), NumberConversions::toDouble);
-        CONVERSION_DB.put(pair(BigDecimal.class, Double.class), NumberConversions::toDouble);
-        CONVERSION_DB.put(pair(Calendar.class, Double.class), CalendarConversions::toDouble);
+        CONVERSION_DB.put(pair(AtomicInteger.class, Double.class), (ToDoubleConvert) NumberConversions::toDouble);
+        CONVERSION_DB.put(pair(AtomicLong.class, Double.class), (ToDoubleConvert) NumberConversions::toDouble);
+        CONVERSION_DB.put(pair(BigInteger.class, Double.class), (ToDoubleConvert) NumberConversions::toDouble);
+        CONVERSION_DB.put(pair(BigDecimal.class, Double.class), (ToDoubleConvert) NumberConversions::toDouble);
+        CONVERSION_DB.put(pair(Calendar.class, Double.class), (ToDoubleConvert) CalendarConversions::toDouble);
         CONVERSION_DB.put(pair(Map.class, Double.class), MapConversions::toDouble);
-        CONVERSION_DB.put(pair(String.class, Double.class), StringConversions::toDouble);
-        CONVERSION_DB.put(pair(Year.class, Double.class), YearConversions::toDouble);
+        CONVERSION_DB.put(pair(String.class, Double.class), (ToDoubleConvert) StringConversions::toDouble);
+        CONVERSION_DB.put(pair(Year.class, Double.class), (ToDoubleConvert) YearConversions::toDouble);
+    }
 
-        // Boolean/boolean conversions supported
+    private static void loadBooleanConversions() {
         CONVERSION_DB.put(pair(Void.class, boolean.class), VoidConversions::toBoolean);
         CONVERSION_DB.put(pair(Void.class, Boolean.class), VoidConversions::toNull);
-        CONVERSION_DB.put(pair(Byte.class, Boolean.class), NumberConversions::isIntTypeNotZero);
-        CONVERSION_DB.put(pair(Short.class, Boolean.class), NumberConversions::isIntTypeNotZero);
-        CONVERSION_DB.put(pair(Integer.class, Boolean.class), NumberConversions::isIntTypeNotZero);
-        CONVERSION_DB.put(pair(Long.class, Boolean.class), NumberConversions::isIntTypeNotZero);
-        CONVERSION_DB.put(pair(Float.class, Boolean.class), NumberConversions::isFloatTypeNotZero);
-        CONVERSION_DB.put(pair(Double.class, Boolean.class), NumberConversions::isFloatTypeNotZero);
+        CONVERSION_DB.put(pair(Byte.class, Boolean.class), (ToBooleanConvert) NumberConversions::isIntTypeNotZero);
+        CONVERSION_DB.put(pair(Short.class, Boolean.class), (ToBooleanConvert) NumberConversions::isIntTypeNotZero);
+        CONVERSION_DB.put(pair(Integer.class, Boolean.class), (ToBooleanConvert) NumberConversions::isIntTypeNotZero);
+        CONVERSION_DB.put(pair(Long.class, Boolean.class), (ToBooleanConvert) NumberConversions::isIntTypeNotZero);
+        CONVERSION_DB.put(pair(Float.class, Boolean.class), (ToBooleanConvert) NumberConversions::isFloatTypeNotZero);
+        CONVERSION_DB.put(pair(Double.class, Boolean.class), (ToBooleanConvert) NumberConversions::isFloatTypeNotZero);
         CONVERSION_DB.put(pair(Boolean.class, Boolean.class), Converter::identity);
-        CONVERSION_DB.put(pair(Character.class, Boolean.class), CharacterConversions::toBoolean);
-        CONVERSION_DB.put(pair(AtomicBoolean.class, Boolean.class), AtomicBooleanConversions::toBoolean);
-        CONVERSION_DB.put(pair(AtomicInteger.class, Boolean.class), NumberConversions::isIntTypeNotZero);
-        CONVERSION_DB.put(pair(AtomicLong.class, Boolean.class), NumberConversions::isIntTypeNotZero);
-        CONVERSION_DB.put(pair(BigInteger.class, Boolean.class), NumberConversions::isBigIntegerNotZero);
-        CONVERSION_DB.put(pair(BigDecimal.class, Boolean.class), NumberConversions::isBigDecimalNotZero);
+        CONVERSION_DB.put(pair(Character.class, Boolean.class), (ToBooleanConvert) CharacterConversions::toBoolean);
+        CONVERSION_DB.put(pair(AtomicBoolean.class, Boolean.class), (ToBooleanConvert) AtomicBooleanConversions::toBoolean);
+        CONVERSION_DB.put(pair(AtomicInteger.class, Boolean.class), (ToBooleanConvert) NumberConversions::isIntTypeNotZero);
+        CONVERSION_DB.put(pair(AtomicLong.class, Boolean.class), (ToBooleanConvert) NumberConversions::isIntTypeNotZero);
+        CONVERSION_DB.put(pair(BigInteger.class, Boolean.class), (ToBooleanConvert) NumberConversions::isBigIntegerNotZero);
+        CONVERSION_DB.put(pair(BigDecimal.class, Boolean.class), (ToBooleanConvert) NumberConversions::isBigDecimalNotZero);
         CONVERSION_DB.put(pair(Map.class, Boolean.class), MapConversions::toBoolean);
-        CONVERSION_DB.put(pair(String.class, Boolean.class), StringConversions::toBoolean);
+        CONVERSION_DB.put(pair(String.class, Boolean.class), (ToBooleanConvert) StringConversions::toBoolean);
+    }
 
-        // Character/char conversions supported
+    private static void loadCharacterConversions() {
         CONVERSION_DB.put(pair(Void.class, char.class), VoidConversions::toCharacter);
         CONVERSION_DB.put(pair(Void.class, Character.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Byte.class, Character.class), ByteConversions::toCharacter);
@@ -279,8 +406,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(BigDecimal.class, Character.class), NumberConversions::toCharacter);
         CONVERSION_DB.put(pair(Map.class, Character.class), MapConversions::toCharacter);
         CONVERSION_DB.put(pair(String.class, Character.class), StringConversions::toCharacter);
+    }
 
-        // BigInteger versions supported
+    private static void loadBigIntegerConversions() {
         CONVERSION_DB.put(pair(Void.class, BigInteger.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Byte.class, BigInteger.class),  NumberConversions::integerTypeToBigInteger);
         CONVERSION_DB.put(pair(Short.class, BigInteger.class),  NumberConversions::integerTypeToBigInteger);
@@ -310,8 +438,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Map.class, BigInteger.class), MapConversions::toBigInteger);
         CONVERSION_DB.put(pair(String.class, BigInteger.class), StringConversions::toBigInteger);
         CONVERSION_DB.put(pair(Year.class, BigInteger.class), YearConversions::toBigInteger);
+    }
 
-        // BigDecimal conversions supported
+    private static void loadBigDecimalConversions() {
         CONVERSION_DB.put(pair(Void.class, BigDecimal.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Byte.class, BigDecimal.class), NumberConversions::integerTypeToBigDecimal);
         CONVERSION_DB.put(pair(Short.class, BigDecimal.class), NumberConversions::integerTypeToBigDecimal);
@@ -341,8 +470,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Map.class, BigDecimal.class), MapConversions::toBigDecimal);
         CONVERSION_DB.put(pair(String.class, BigDecimal.class), StringConversions::toBigDecimal);
         CONVERSION_DB.put(pair(Year.class, BigDecimal.class), YearConversions::toBigDecimal);
+    }
 
-        // AtomicBoolean conversions supported
+    private static void loadAtomicBooleanConversions() {
         CONVERSION_DB.put(pair(Void.class, AtomicBoolean.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Byte.class, AtomicBoolean.class), NumberConversions::toAtomicBoolean);
         CONVERSION_DB.put(pair(Short.class, AtomicBoolean.class), NumberConversions::toAtomicBoolean);
@@ -360,8 +490,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Map.class, AtomicBoolean.class), MapConversions::toAtomicBoolean);
         CONVERSION_DB.put(pair(String.class, AtomicBoolean.class), StringConversions::toAtomicBoolean);
         CONVERSION_DB.put(pair(Year.class, AtomicBoolean.class), YearConversions::toAtomicBoolean);
+    }
 
-        // AtomicInteger conversions supported
+    private static void loadAtomicIntegerConversions() {
         CONVERSION_DB.put(pair(Void.class, AtomicInteger.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Byte.class, AtomicInteger.class), NumberConversions::toAtomicInteger);
         CONVERSION_DB.put(pair(Short.class, AtomicInteger.class), NumberConversions::toAtomicInteger);
@@ -380,8 +511,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Map.class, AtomicInteger.class), MapConversions::toAtomicInteger);
         CONVERSION_DB.put(pair(String.class, AtomicInteger.class), StringConversions::toAtomicInteger);
         CONVERSION_DB.put(pair(Year.class, AtomicInteger.class), YearConversions::toAtomicInteger);
+    }
 
-        // AtomicLong conversions supported
+    private static void loadAtomicLongConversions() {
         CONVERSION_DB.put(pair(Void.class, AtomicLong.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Byte.class, AtomicLong.class), NumberConversions::toAtomicLong);
         CONVERSION_DB.put(pair(Short.class, AtomicLong.class), NumberConversions::toAtomicLong);
@@ -410,8 +542,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Map.class, AtomicLong.class), MapConversions::toAtomicLong);
         CONVERSION_DB.put(pair(String.class, AtomicLong.class), StringConversions::toAtomicLong);
         CONVERSION_DB.put(pair(Year.class, AtomicLong.class), YearConversions::toAtomicLong);
+    }
 
-        // Date conversions supported
+    private static void loadDateConversions() {
         CONVERSION_DB.put(pair(Void.class, Date.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Long.class, Date.class), NumberConversions::toDate);
         CONVERSION_DB.put(pair(Double.class, Date.class), DoubleConversions::toDate);
@@ -429,8 +562,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Calendar.class, Date.class), CalendarConversions::toDate);
         CONVERSION_DB.put(pair(Map.class, Date.class), MapConversions::toDate);
         CONVERSION_DB.put(pair(String.class, Date.class), StringConversions::toDate);
+    }
 
-        // java.sql.Date conversion supported
+    private static void loadSqlDateConversions() {
         CONVERSION_DB.put(pair(Void.class, java.sql.Date.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Long.class, java.sql.Date.class), NumberConversions::toSqlDate);
         CONVERSION_DB.put(pair(Double.class, java.sql.Date.class), DoubleConversions::toSqlDate);
@@ -448,8 +582,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Calendar.class, java.sql.Date.class), CalendarConversions::toSqlDate);
         CONVERSION_DB.put(pair(Map.class, java.sql.Date.class), MapConversions::toSqlDate);
         CONVERSION_DB.put(pair(String.class, java.sql.Date.class), StringConversions::toSqlDate);
+    }
 
-        // Timestamp conversions supported
+    private static void loadTimestampConversions() {
         CONVERSION_DB.put(pair(Void.class, Timestamp.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Long.class, Timestamp.class), NumberConversions::toTimestamp);
         CONVERSION_DB.put(pair(Double.class, Timestamp.class), DoubleConversions::toTimestamp);
@@ -460,7 +595,7 @@ public final class Converter {
         CONVERSION_DB.put(pair(java.sql.Date.class, Timestamp.class), DateConversions::toTimestamp);
         CONVERSION_DB.put(pair(Date.class, Timestamp.class), DateConversions::toTimestamp);
         CONVERSION_DB.put(pair(Duration.class, Timestamp.class), DurationConversions::toTimestamp);
-        CONVERSION_DB.put(pair(Instant.class,Timestamp.class), InstantConversions::toTimestamp);
+        CONVERSION_DB.put(pair(Instant.class, Timestamp.class), InstantConversions::toTimestamp);
         CONVERSION_DB.put(pair(LocalDate.class, Timestamp.class), LocalDateConversions::toTimestamp);
         CONVERSION_DB.put(pair(LocalDateTime.class, Timestamp.class), LocalDateTimeConversions::toTimestamp);
         CONVERSION_DB.put(pair(ZonedDateTime.class, Timestamp.class), ZonedDateTimeConversions::toTimestamp);
@@ -468,8 +603,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Calendar.class, Timestamp.class), CalendarConversions::toTimestamp);
         CONVERSION_DB.put(pair(Map.class, Timestamp.class), MapConversions::toTimestamp);
         CONVERSION_DB.put(pair(String.class, Timestamp.class), StringConversions::toTimestamp);
+    }
 
-        // Calendar conversions supported
+    private static void loadCalendarConversions() {
         CONVERSION_DB.put(pair(Void.class, Calendar.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Long.class, Calendar.class), NumberConversions::toCalendar);
         CONVERSION_DB.put(pair(Double.class, Calendar.class), DoubleConversions::toCalendar);
@@ -488,8 +624,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Calendar.class, Calendar.class), CalendarConversions::clone);
         CONVERSION_DB.put(pair(Map.class, Calendar.class), MapConversions::toCalendar);
         CONVERSION_DB.put(pair(String.class, Calendar.class), StringConversions::toCalendar);
+    }
 
-        // LocalDate conversions supported
+    private static void loadLocalDateConversions() {
         CONVERSION_DB.put(pair(Void.class, LocalDate.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Long.class, LocalDate.class), NumberConversions::toLocalDate);
         CONVERSION_DB.put(pair(Double.class, LocalDate.class), DoubleConversions::toLocalDate);
@@ -507,8 +644,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Calendar.class, LocalDate.class), CalendarConversions::toLocalDate);
         CONVERSION_DB.put(pair(Map.class, LocalDate.class), MapConversions::toLocalDate);
         CONVERSION_DB.put(pair(String.class, LocalDate.class), StringConversions::toLocalDate);
+    }
 
-        // LocalDateTime conversions supported
+    private static void loadLocalDateTimeConversions() {
         CONVERSION_DB.put(pair(Void.class, LocalDateTime.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Long.class, LocalDateTime.class), NumberConversions::toLocalDateTime);
         CONVERSION_DB.put(pair(Double.class, LocalDateTime.class), DoubleConversions::toLocalDateTime);
@@ -526,8 +664,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Calendar.class, LocalDateTime.class), CalendarConversions::toLocalDateTime);
         CONVERSION_DB.put(pair(Map.class, LocalDateTime.class), MapConversions::toLocalDateTime);
         CONVERSION_DB.put(pair(String.class, LocalDateTime.class), StringConversions::toLocalDateTime);
+    }
 
-        // LocalTime conversions supported
+    private static void loadLocalTimeConversions() {
         CONVERSION_DB.put(pair(Void.class, LocalTime.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Integer.class, LocalTime.class), IntegerConversions::toLocalTime);
         CONVERSION_DB.put(pair(Long.class, LocalTime.class), LongConversions::toLocalTime);
@@ -547,8 +686,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Calendar.class, LocalTime.class), CalendarConversions::toLocalTime);
         CONVERSION_DB.put(pair(Map.class, LocalTime.class), MapConversions::toLocalTime);
         CONVERSION_DB.put(pair(String.class, LocalTime.class), StringConversions::toLocalTime);
+    }
 
-        // ZonedDateTime conversions supported
+    private static void loadZonedDateTimeConversions() {
         CONVERSION_DB.put(pair(Void.class, ZonedDateTime.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Long.class, ZonedDateTime.class), NumberConversions::toZonedDateTime);
         CONVERSION_DB.put(pair(Double.class, ZonedDateTime.class), DoubleConversions::toZonedDateTime);
@@ -566,8 +706,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Calendar.class, ZonedDateTime.class), CalendarConversions::toZonedDateTime);
         CONVERSION_DB.put(pair(Map.class, ZonedDateTime.class), MapConversions::toZonedDateTime);
         CONVERSION_DB.put(pair(String.class, ZonedDateTime.class), StringConversions::toZonedDateTime);
+    }
 
-        // toOffsetDateTime
+    private static void loadOffsetDateTimeConversions() {
         CONVERSION_DB.put(pair(Void.class, OffsetDateTime.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(OffsetDateTime.class, OffsetDateTime.class), Converter::identity);
         CONVERSION_DB.put(pair(Map.class, OffsetDateTime.class), MapConversions::toOffsetDateTime);
@@ -585,35 +726,40 @@ public final class Converter {
         CONVERSION_DB.put(pair(Instant.class, OffsetDateTime.class), InstantConversions::toOffsetDateTime);
         CONVERSION_DB.put(pair(ZonedDateTime.class, OffsetDateTime.class), ZonedDateTimeConversions::toOffsetDateTime);
         CONVERSION_DB.put(pair(LocalDateTime.class, OffsetDateTime.class), LocalDateTimeConversions::toOffsetDateTime);
+    }
 
-        // toOffsetTime
+    private static void loadOffsetTimeConversions() {
         CONVERSION_DB.put(pair(Void.class, OffsetTime.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(OffsetTime.class, OffsetTime.class), Converter::identity);
         CONVERSION_DB.put(pair(OffsetDateTime.class, OffsetTime.class), OffsetDateTimeConversions::toOffsetTime);
         CONVERSION_DB.put(pair(Map.class, OffsetTime.class), MapConversions::toOffsetTime);
         CONVERSION_DB.put(pair(String.class, OffsetTime.class), StringConversions::toOffsetTime);
+    }
 
-        // UUID conversions supported
+    private static void loadUUIDConversions() {
         CONVERSION_DB.put(pair(Void.class, UUID.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(UUID.class, UUID.class), Converter::identity);
         CONVERSION_DB.put(pair(String.class, UUID.class), StringConversions::toUUID);
         CONVERSION_DB.put(pair(BigInteger.class, UUID.class), BigIntegerConversions::toUUID);
         CONVERSION_DB.put(pair(BigDecimal.class, UUID.class), BigDecimalConversions::toUUID);
         CONVERSION_DB.put(pair(Map.class, UUID.class), MapConversions::toUUID);
+    }
 
-        // Class conversions supported
+    private static void loadClassConversions() {
         CONVERSION_DB.put(pair(Void.class, Class.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Class.class, Class.class), Converter::identity);
         CONVERSION_DB.put(pair(Map.class, Class.class), MapConversions::toClass);
         CONVERSION_DB.put(pair(String.class, Class.class), StringConversions::toClass);
+    }
 
-        // Locale conversions supported
+    private static void loadLocaleConversions() {
         CONVERSION_DB.put(pair(Void.class, Locale.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Locale.class, Locale.class), Converter::identity);
         CONVERSION_DB.put(pair(String.class, Locale.class), StringConversions::toLocale);
         CONVERSION_DB.put(pair(Map.class, Locale.class), MapConversions::toLocale);
+    }
 
-        // String conversions supported
+    private static void loadStringConversions() {
         CONVERSION_DB.put(pair(Void.class, String.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Byte.class, String.class), StringConversions::toString);
         CONVERSION_DB.put(pair(Short.class, String.class), StringConversions::toString);
@@ -660,30 +806,34 @@ public final class Converter {
         CONVERSION_DB.put(pair(URL.class, String.class), StringConversions::toString);
         CONVERSION_DB.put(pair(URI.class, String.class), StringConversions::toString);
         CONVERSION_DB.put(pair(TimeZone.class, String.class), TimeZoneConversions::toString);
-        
-        // URL conversions
+    }
+
+    private static void loadURLConversions() {
         CONVERSION_DB.put(pair(Void.class, URL.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(URL.class, URL.class), Converter::identity);
         CONVERSION_DB.put(pair(URI.class, URL.class), UriConversions::toURL);
         CONVERSION_DB.put(pair(String.class, URL.class), StringConversions::toURL);
         CONVERSION_DB.put(pair(Map.class, URL.class), MapConversions::toURL);
+    }
 
-        // URI Conversions
+    private static void loadURIConversions() {
         CONVERSION_DB.put(pair(Void.class, URI.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(URI.class, URI.class), Converter::identity);
         CONVERSION_DB.put(pair(URL.class, URI.class), UrlConversions::toURI);
         CONVERSION_DB.put(pair(String.class, URI.class), StringConversions::toURI);
         CONVERSION_DB.put(pair(Map.class, URI.class), MapConversions::toURI);
+    }
 
-        // TimeZone Conversions
+    private static void loadTimeZoneConversions() {
         CONVERSION_DB.put(pair(Void.class, TimeZone.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(TimeZone.class, TimeZone.class), Converter::identity);
         CONVERSION_DB.put(pair(String.class, TimeZone.class), StringConversions::toTimeZone);
         CONVERSION_DB.put(pair(Map.class, TimeZone.class), MapConversions::toTimeZone);
         CONVERSION_DB.put(pair(ZoneId.class, TimeZone.class), ZoneIdConversions::toTimeZone);
         CONVERSION_DB.put(pair(ZoneOffset.class, TimeZone.class), UNSUPPORTED);
+    }
 
-        // Duration conversions supported
+    private static void loadDurationConversions() {
         CONVERSION_DB.put(pair(Void.class, Duration.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Duration.class, Duration.class), Converter::identity);
         CONVERSION_DB.put(pair(Long.class, Duration.class), NumberConversions::toDuration);
@@ -694,8 +844,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Timestamp.class, Duration.class), TimestampConversions::toDuration);
         CONVERSION_DB.put(pair(String.class, Duration.class), StringConversions::toDuration);
         CONVERSION_DB.put(pair(Map.class, Duration.class), MapConversions::toDuration);
+    }
 
-        // Instant conversions supported
+    private static void loadInstantConversions() {
         CONVERSION_DB.put(pair(Void.class, Instant.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Instant.class, Instant.class), Converter::identity);
         CONVERSION_DB.put(pair(Long.class, Instant.class), NumberConversions::toInstant);
@@ -713,42 +864,48 @@ public final class Converter {
         CONVERSION_DB.put(pair(Calendar.class, Instant.class), CalendarConversions::toInstant);
         CONVERSION_DB.put(pair(String.class, Instant.class), StringConversions::toInstant);
         CONVERSION_DB.put(pair(Map.class, Instant.class), MapConversions::toInstant);
+    }
 
-        // ZoneId conversions supported
+    private static void loadZoneIdConversions() {
         CONVERSION_DB.put(pair(Void.class, ZoneId.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(ZoneId.class, ZoneId.class), Converter::identity);
         CONVERSION_DB.put(pair(String.class, ZoneId.class), StringConversions::toZoneId);
         CONVERSION_DB.put(pair(Map.class, ZoneId.class), MapConversions::toZoneId);
         CONVERSION_DB.put(pair(TimeZone.class, ZoneId.class), TimeZoneConversions::toZoneId);
         CONVERSION_DB.put(pair(ZoneOffset.class, ZoneId.class), ZoneOffsetConversions::toZoneId);
+    }
 
-        // ZoneOffset conversions supported
+    private static void loadZoneOffsetConversions() {
         CONVERSION_DB.put(pair(Void.class, ZoneOffset.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(ZoneOffset.class, ZoneOffset.class), Converter::identity);
         CONVERSION_DB.put(pair(String.class, ZoneOffset.class), StringConversions::toZoneOffset);
         CONVERSION_DB.put(pair(Map.class, ZoneOffset.class), MapConversions::toZoneOffset);
         CONVERSION_DB.put(pair(ZoneId.class, ZoneOffset.class), UNSUPPORTED);
         CONVERSION_DB.put(pair(TimeZone.class, ZoneOffset.class), UNSUPPORTED);
+    }
 
-        // MonthDay conversions supported
+    private static void loadMonthDayConversions() {
         CONVERSION_DB.put(pair(Void.class, MonthDay.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(MonthDay.class, MonthDay.class), Converter::identity);
         CONVERSION_DB.put(pair(String.class, MonthDay.class), StringConversions::toMonthDay);
         CONVERSION_DB.put(pair(Map.class, MonthDay.class), MapConversions::toMonthDay);
+    }
 
-        // YearMonth conversions supported
+    private static void loadYearMonthConversions() {
         CONVERSION_DB.put(pair(Void.class, YearMonth.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(YearMonth.class, YearMonth.class), Converter::identity);
         CONVERSION_DB.put(pair(String.class, YearMonth.class), StringConversions::toYearMonth);
         CONVERSION_DB.put(pair(Map.class, YearMonth.class), MapConversions::toYearMonth);
+    }
 
-        // Period conversions supported
+    private static void loadPeriodConversions() {
         CONVERSION_DB.put(pair(Void.class, Period.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Period.class, Period.class), Converter::identity);
         CONVERSION_DB.put(pair(String.class, Period.class), StringConversions::toPeriod);
         CONVERSION_DB.put(pair(Map.class, Period.class), MapConversions::toPeriod);
+    }
 
-        // toStringBuffer
+    private static void loadStringBufferConversions() {
         CONVERSION_DB.put(pair(Void.class, StringBuffer.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(String.class, StringBuffer.class), StringConversions::toStringBuffer);
         CONVERSION_DB.put(pair(StringBuilder.class, StringBuffer.class), StringConversions::toStringBuffer);
@@ -758,8 +915,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Character[].class, StringBuffer.class), CharacterArrayConversions::toStringBuffer);
         CONVERSION_DB.put(pair(char[].class, StringBuffer.class), CharArrayConversions::toStringBuffer);
         CONVERSION_DB.put(pair(byte[].class, StringBuffer.class), ByteArrayConversions::toStringBuffer);
+    }
 
-        // toStringBuilder
+    private static void loadStringBuilderConversions() {
         CONVERSION_DB.put(pair(Void.class, StringBuilder.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(String.class, StringBuilder.class), StringConversions::toStringBuilder);
         CONVERSION_DB.put(pair(StringBuilder.class, StringBuilder.class), StringConversions::toStringBuilder);
@@ -769,8 +927,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(Character[].class, StringBuilder.class), CharacterArrayConversions::toStringBuilder);
         CONVERSION_DB.put(pair(char[].class, StringBuilder.class), CharArrayConversions::toStringBuilder);
         CONVERSION_DB.put(pair(byte[].class, StringBuilder.class), ByteArrayConversions::toStringBuilder);
+    }
 
-        // toByteArray
+    private static void loadByteArrayConversions() {
         CONVERSION_DB.put(pair(Void.class, byte[].class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(String.class, byte[].class), StringConversions::toByteArray);
         CONVERSION_DB.put(pair(StringBuilder.class, byte[].class), StringConversions::toByteArray);
@@ -779,8 +938,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(CharBuffer.class, byte[].class), CharBufferConversions::toByteArray);
         CONVERSION_DB.put(pair(char[].class, byte[].class), CharArrayConversions::toByteArray);
         CONVERSION_DB.put(pair(byte[].class, byte[].class), Converter::identity);
+    }
 
-        // toCharArray
+    private static void loadCharArrayConversions() {
         CONVERSION_DB.put(pair(Void.class, char[].class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(String.class, char[].class), StringConversions::toCharArray);
         CONVERSION_DB.put(pair(StringBuilder.class, char[].class), StringConversions::toCharArray);
@@ -789,14 +949,16 @@ public final class Converter {
         CONVERSION_DB.put(pair(CharBuffer.class, char[].class), CharBufferConversions::toCharArray);
         CONVERSION_DB.put(pair(char[].class, char[].class), CharArrayConversions::toCharArray);
         CONVERSION_DB.put(pair(byte[].class, char[].class), ByteArrayConversions::toCharArray);
+    }
 
-        // toCharacterArray
+    private static void loadCharacterArrayConversions() {
         CONVERSION_DB.put(pair(Void.class, Character[].class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(String.class, Character[].class), StringConversions::toCharacterArray);
         CONVERSION_DB.put(pair(StringBuffer.class, Character[].class), StringConversions::toCharacterArray);
         CONVERSION_DB.put(pair(StringBuilder.class, Character[].class), StringConversions::toCharacterArray);
+    }
 
-        // toCharBuffer
+    private static void loadCharBufferConversions() {
         CONVERSION_DB.put(pair(Void.class, CharBuffer.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(String.class, CharBuffer.class), StringConversions::toCharBuffer);
         CONVERSION_DB.put(pair(StringBuilder.class, CharBuffer.class), StringConversions::toCharBuffer);
@@ -805,8 +967,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(CharBuffer.class, CharBuffer.class), CharBufferConversions::toCharBuffer);
         CONVERSION_DB.put(pair(char[].class, CharBuffer.class), CharArrayConversions::toCharBuffer);
         CONVERSION_DB.put(pair(byte[].class, CharBuffer.class), ByteArrayConversions::toCharBuffer);
+    }
 
-        // toByteBuffer
+    private static void loadByteBufferConversions() {
         CONVERSION_DB.put(pair(Void.class, ByteBuffer.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(String.class, ByteBuffer.class), StringConversions::toByteBuffer);
         CONVERSION_DB.put(pair(StringBuilder.class, ByteBuffer.class), StringConversions::toByteBuffer);
@@ -815,8 +978,9 @@ public final class Converter {
         CONVERSION_DB.put(pair(CharBuffer.class, ByteBuffer.class), CharBufferConversions::toByteBuffer);
         CONVERSION_DB.put(pair(char[].class, ByteBuffer.class), CharArrayConversions::toByteBuffer);
         CONVERSION_DB.put(pair(byte[].class, ByteBuffer.class), ByteArrayConversions::toByteBuffer);
+    }
 
-        // toYear
+    private static void loadYearConversions() {
         CONVERSION_DB.put(pair(Void.class, Year.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Year.class, Year.class), Converter::identity);
         CONVERSION_DB.put(pair(Short.class, Year.class), NumberConversions::toYear);
@@ -830,12 +994,14 @@ public final class Converter {
         CONVERSION_DB.put(pair(BigDecimal.class, Year.class), NumberConversions::toYear);
         CONVERSION_DB.put(pair(String.class, Year.class), StringConversions::toYear);
         CONVERSION_DB.put(pair(Map.class, Year.class), MapConversions::toYear);
+    }
 
-        // Throwable conversions supported
+    private static void loadThrowableConversions() {
         CONVERSION_DB.put(pair(Void.class, Throwable.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Map.class, Throwable.class), MapConversions::toThrowable);
+    }
 
-        // Map conversions supported
+    private static void loadMapConversions() {
         CONVERSION_DB.put(pair(Void.class, Map.class), VoidConversions::toNull);
         CONVERSION_DB.put(pair(Byte.class, Map.class), MapConversions::initMap);
         CONVERSION_DB.put(pair(Short.class, Map.class), MapConversions::initMap);
@@ -879,10 +1045,67 @@ public final class Converter {
         CONVERSION_DB.put(pair(Throwable.class, Map.class), ThrowableConversions::toMap);
     }
 
+    /**
+     * Create a Converter.  The built-in conversions are shared by all instances, so construction only copies the
+     * overrides supplied by the options (ConverterOptions.getConverterOverrides()).
+     */
     public Converter(ConverterOptions options) {
         this.options = options;
-        this.factory = new ConcurrentHashMap<>(CONVERSION_DB);
-        this.factory.putAll(this.options.getConverterOverrides());
+        this.metrics = options.isMetricsEnabled() ? new ConversionMetrics() : null;
+        this.dateParseCache = options.getDateParseCacheSize() > 0 ? new DateParseCache(options.getDateParseCacheSize()) : null;
+        Map<Map.Entry<Class<?>, Class<?>>, Convert<?>> optionOverrides = this.options.getConverterOverrides();
+        if (optionOverrides.isEmpty()) {
+            this.overrides = EMPTY_OVERRIDES;
+        } else {
+            ConversionTable table = new ConversionTable();
+            for (Map.Entry<Map.Entry<Class<?>, Class<?>>, Convert<?>> entry : optionOverrides.entrySet()) {
+                table.put(entry.getKey(), entry.getValue());
+            }
+            this.overrides = table;
+        }
+    }
+
+    /**
+     * Fetch the Convert registered for the exact source and target class, checking this instance's overrides
+     * before the shared built-in conversions.
+     * @return Convert instance or null if there is no direct entry for the pair.
+     */
+    private Convert<?> getFactory(Class<?> source, Class<?> target) {
+        ConversionTable local = overrides;
+        if (local != EMPTY_OVERRIDES) {
+            Convert<?> converter = local.get(source, target);
+            if (converter != null) {
+                return converter;
+            }
+        }
+        Convert<?> converter = CONVERSION_DB.get(source, target);
+        if (converter == null) {
+            // Re-read even when no family was found: another thread may have finished loading it (and removed it
+            // from UNLOADED_FAMILIES) after the read above.
+            loadFamily(target);
+            converter = CONVERSION_DB.get(source, target);
+        }
+        return converter;
+    }
+
+    /**
+     * Visit every direct conversion visible to this instance, with overrides taking precedence over built-ins.
+     */
+    private void forEachConversion(ConversionTable.Visitor visitor) {
+        forEachConversion(overrides, visitor);
+    }
+
+    private static void forEachConversion(ConversionTable local, ConversionTable.Visitor visitor) {
+        loadAllFamilies();
+        CONVERSION_DB.forEach((source, target, converter) -> {
+            Convert<?> override = local.get(source, target);
+            visitor.visit(source, target, override == null ? converter : override);
+        });
+        local.forEach((source, target, converter) -> {
+            if (CONVERSION_DB.get(source, target) == null) {
+                visitor.visit(source, target, converter);
+            }
+        });
     }
 
     /**
@@ -917,35 +1140,437 @@ public final class Converter {
         if (toType == null) {
             throw new IllegalArgumentException("toType cannot be null");
         }
-        Class<?> sourceType;
+        if (metrics != null) {
+            return convertAndRecord(from, toType);
+        }
+        Convert<?> converter = findConverter(from, toType);
+        if (converter != null) {
+            return (T) converter.convert(from, this);
+        }
+        throw unsupportedConversion(from, toType);
+    }
+
+    /**
+     * convert(), recording the call, its latency, and any exception against the (source, target) pair.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T convertAndRecord(Object from, Class<T> toType) {
+        Class<?> source = from == null ? Void.class : from.getClass();
+        Class<?> target = from == null ? toType : ClassUtilities.toPrimitiveWrapperClass(toType);
+        ConversionMetrics.Counters counters = metrics.get(source, target);
+        long start = System.nanoTime();
+        try {
+            Convert<?> converter = findConverter(from, toType);
+            if (converter == null || converter != getFactory(source, target)) {
+                counters.inheritanceMiss();
+            }
+            if (converter == null) {
+                throw unsupportedConversion(from, toType);
+            }
+            return (T) converter.convert(from, this);
+        } catch (RuntimeException e) {
+            counters.exception();
+            throw e;
+        } finally {
+            counters.record(System.nanoTime() - start);
+        }
+    }
+
+    static IllegalArgumentException unsupportedConversion(Object from, Class<?> toType) {
+        if (from != null) {
+            toType = ClassUtilities.toPrimitiveWrapperClass(toType);
+        }
+        return new IllegalArgumentException("Unsupported conversion, source type [" + name(from) + "] target type '" + getShortName(toType) + "'");
+    }
+
+    /**
+     * Convert the characters in the range [offset, offset + length) of the passed in CharSequence (String,
+     * StringBuilder, CharBuffer, ...) to the class indicated.  The result is the same as
+     * convert(chars.subSequence(offset, offset + length).toString(), toType), but numbers (byte, short, int, long,
+     * double), booleans, UUIDs, and dates (ZonedDateTime, OffsetDateTime, LocalDate, LocalDateTime, Instant, Date)
+     * are parsed in place, without creating the intermediate String.  Intended for parsers that convert fields
+     * out of a larger buffer, such as a line of a CSV file.
+     * <pre>
+     *     CharSequence line = "42,2024-01-21,true";
+     *     int id = converter.convert(line, 0, 2, int.class);
+     *     LocalDate date = converter.convert(line, 3, 10, LocalDate.class);
+     * </pre>
+     * @param chars  characters to convert.  If null, the result is the same as convert(null, toType).
+     * @param offset index of the first character to convert.
+     * @param length number of characters to convert.
+     * @param toType Class which indicates the targeted (final) data type.
+     * @return An instanceof targetType class, based upon the characters in the range.
+     * @throws IndexOutOfBoundsException if the range is not within chars.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convert(CharSequence chars, int offset, int length, Class<T> toType) {
+        if (toType == null) {
+            throw new IllegalArgumentException("toType cannot be null");
+        }
+        if (chars == null) {
+            return convert(null, toType);
+        }
+        if (offset < 0 || length < 0 || length > chars.length() - offset) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + chars.length());
+        }
+        // Conversions of this instance's own, and metrics, apply to the String conversion.
+        if (metrics == null && !hasOverrides()) {
+            StringConversions.RangeConvert rangeConvert = StringConversions.getRangeConvert(ClassUtilities.toPrimitiveWrapperClass(toType));
+            if (rangeConvert != null) {
+                return (T) rangeConvert.convert(chars, offset, offset + length, this);
+            }
+        }
+        return convert(chars.subSequence(offset, offset + length).toString(), toType);
+    }
+
+    /**
+     * Convert the characters in the range [offset, offset + length) of the passed in char[] to the class indicated,
+     * without copying them.  See {@link #convert(CharSequence, int, int, Class)}.
+     * @param chars  characters to convert.  If null, the result is the same as convert(null, toType).
+     * @param offset index of the first character to convert.
+     * @param length number of characters to convert.
+     * @param toType Class which indicates the targeted (final) data type.
+     * @return An instanceof targetType class, based upon the characters in the range.
+     * @throws IndexOutOfBoundsException if the range is not within chars.
+     */
+    public <T> T convert(char[] chars, int offset, int length, Class<T> toType) {
+        return convert(chars == null ? null : CharBuffer.wrap(chars), offset, length, toType);
+    }
+
+    /**
+     * Convert the passed in value to the class indicated, returning the passed in default value when converting
+     * from the value's type to toType is not supported.  Use this instead of catching the exception thrown by
+     * convert() when probing whether values can be converted - no exception is created for unsupported types.
+     * If the conversion is supported but the value itself cannot be converted (for example, "abc" to int), the
+     * exception from the conversion is still thrown.
+     *
+     * @param from         value to convert.
+     * @param toType       Class which indicates the targeted (final) data type.
+     * @param defaultValue value to return when the conversion is not supported.
+     * @return An instanceof targetType class, based upon the value passed in, or defaultValue.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convertOrDefault(Object from, Class<T> toType, T defaultValue) {
+        if (toType == null) {
+            throw new IllegalArgumentException("toType cannot be null");
+        }
+        Convert<?> converter = findConverter(from, toType);
+        if (converter == null) {
+            return defaultValue;
+        }
+        if (metrics != null) {
+            return convertAndRecord(from, toType);
+        }
+        return (T) converter.convert(from, this);
+    }
+
+    /**
+     * Resolve the Convert for the passed in value's type to toType, promoting primitive targets as convert() does.
+     * @return Convert instance, or null if the conversion is not supported.
+     */
+    private Convert<?> findConverter(Object from, Class<?> toType) {
         if (from == null) {
             // Do not promote primitive to primitive wrapper - allows for different 'from NULL' type for each.
-            sourceType = Void.class;
-        } else {
-            // Promote primitive to primitive wrapper, so we don't have to define so many duplicates in the factory map.
-            sourceType = from.getClass();
-            if (toType.isPrimitive()) {
-                toType = (Class<T>)  ClassUtilities.toPrimitiveWrapperClass(toType);
+            return resolveConverter(Void.class, toType);
+        }
+        // Promote primitive to primitive wrapper, so we don't have to define so many duplicates in the factory map.
+        if (toType.isPrimitive()) {
+            toType = ClassUtilities.toPrimitiveWrapperClass(toType);
+        }
+        return resolveConverter(from.getClass(), toType);
+    }
+
+    /**
+     * Convert the passed in value to a primitive int, without boxing the result when the registered conversion
+     * supports it (see {@link ToIntConvert}).  Otherwise, this is equivalent to convert(from, int.class).
+     * @param from value to convert.  If null, 0 is returned.
+     * @return int value converted from the passed in value.
+     */
+    public int convertToInt(Object from) {
+        if (from != null && metrics == null) {
+            Convert<?> converter = getFactory(from.getClass(), Integer.class);
+            if (converter instanceof ToIntConvert) {
+                return ((ToIntConvert) converter).convertToInt(from, this);
             }
         }
+        return convert(from, int.class);
+    }
 
+    /**
+     * Convert the passed in value to a primitive long, without boxing the result when the registered conversion
+     * supports it (see {@link ToLongConvert}).  Otherwise, this is equivalent to convert(from, long.class).
+     * @param from value to convert.  If null, 0 is returned.
+     * @return long value converted from the passed in value.
+     */
+    public long convertToLong(Object from) {
+        if (from != null && metrics == null) {
+            Convert<?> converter = getFactory(from.getClass(), Long.class);
+            if (converter instanceof ToLongConvert) {
+                return ((ToLongConvert) converter).convertToLong(from, this);
+            }
+        }
+        return convert(from, long.class);
+    }
+
+    /**
+     * Convert the passed in value to a primitive double, without boxing the result when the registered conversion
+     * supports it (see {@link ToDoubleConvert}).  Otherwise, this is equivalent to convert(from, double.class).
+     * @param from value to convert.  If null, 0.0 is returned.
+     * @return double value converted from the passed in value.
+     */
+    public double convertToDouble(Object from) {
+        if (from != null && metrics == null) {
+            Convert<?> converter = getFactory(from.getClass(), Double.class);
+            if (converter instanceof ToDoubleConvert) {
+                return ((ToDoubleConvert) converter).convertToDouble(from, this);
+            }
+        }
+        return convert(from, double.class);
+    }
+
+    /**
+     * Convert the passed in value to a primitive boolean, without boxing the result when the registered conversion
+     * supports it (see {@link ToBooleanConvert}).  Otherwise, this is equivalent to convert(from, boolean.class).
+     * @param from value to convert.  If null, false is returned.
+     * @return boolean value converted from the passed in value.
+     */
+    public boolean convertToBoolean(Object from) {
+        if (from != null && metrics == null) {
+            Convert<?> converter = getFactory(from.getClass(), Boolean.class);
+            if (converter instanceof ToBooleanConvert) {
+                return ((ToBooleanConvert) converter).convertToBoolean(from, this);
+            }
+        }
+        return convert(from, boolean.class);
+    }
+
+    /**
+     * Convert each element of the source array to the passed in element type, returning a new array of that type.
+     * The conversion for each distinct runtime class found in the source array is resolved once, rather than once
+     * per element.  When the array length reaches {@link ConverterOptions#getParallelConversionThreshold()}, the
+     * work is split across the common ForkJoinPool.
+     * <pre>
+     *     LocalDate[] dates = converter.convertArray(new Object[] {"2024-02-18", 1708214400000L}, LocalDate.class);
+     * </pre>
+     * @param source      array of values to convert.  Elements may be of mixed types, and may be null.
+     * @param elementType Class of the elements of the returned array.  For primitive targets, use one of the
+     *                    convertColumn() APIs, which write into a primitive array without boxing.
+     * @return array of elementType, the same length as the source array.
+     * @throws IllegalArgumentException if any element cannot be converted to elementType.
+     */
+    public <T> T[] convertArray(Object[] source, Class<T> elementType) {
+        if (elementType == null) {
+            throw new IllegalArgumentException("elementType cannot be null");
+        }
+        if (elementType.isPrimitive()) {
+            throw new IllegalArgumentException("elementType cannot be primitive (" + elementType.getName() + "), use convertColumn() to convert to a primitive array");
+        }
+        return BulkConversions.toArray(source, elementType, this);
+    }
+
+    /**
+     * Convert each element of the source array to an int, writing the results into the target array.
+     * Null elements are converted to 0.  See {@link #convertArray(Object[], Class)}.
+     * @param source array of values to convert.
+     * @param target array to write into.  Must be at least as long as the source array.
+     * @return the target array.
+     */
+    public int[] convertColumn(Object[] source, int[] target) {
+        return BulkConversions.toIntArray(source, target, this);
+    }
+
+    /**
+     * Convert each element of the source array to a long, writing the results into the target array.
+     * Null elements are converted to 0.  See {@link #convertArray(Object[], Class)}.
+     * @param source array of values to convert.
+     * @param target array to write into.  Must be at least as long as the source array.
+     * @return the target array.
+     */
+    public long[] convertColumn(Object[] source, long[] target) {
+        return BulkConversions.toLongArray(source, target, this);
+    }
+
+    /**
+     * Convert each element of the source array to a double, writing the results into the target array.
+     * Null elements are converted to 0.0.  See {@link #convertArray(Object[], Class)}.
+     * @param source array of values to convert.
+     * @param target array to write into.  Must be at least as long as the source array.
+     * @return the target array.
+     */
+    public double[] convertColumn(Object[] source, double[] target) {
+        return BulkConversions.toDoubleArray(source, target, this);
+    }
+
+    /**
+     * Convert each element of the source array to a boolean, writing the results into the target array.
+     * Null elements are converted to false.  See {@link #convertArray(Object[], Class)}.
+     * @param source array of values to convert.
+     * @param target array to write into.  Must be at least as long as the source array.
+     * @return the target array.
+     */
+    public boolean[] convertColumn(Object[] source, boolean[] target) {
+        return BulkConversions.toBooleanArray(source, target, this);
+    }
+
+    /**
+     * Convert each element of the source collection to the passed in element type, adding the results, in the
+     * source's iteration order, to a collection created by the passed in factory.  As with convertArray(), the
+     * conversion for each distinct runtime class found in the source is resolved once, rather than once per element.
+     * <pre>
+     *     List&lt;LocalDate&gt; dates = converter.convertAll(strings, LocalDate.class, ArrayList::new);
+     *     Set&lt;Long&gt; ids = converter.convertAll(values, long.class, LinkedHashSet::new);
+     * </pre>
+     * @param source            collection of values to convert.  Elements may be of mixed types, and may be null.
+     * @param elementType       Class the elements are converted to.  For a primitive type, elements are converted
+     *                          as convert(element, primitiveType) does (null becomes 0, false, ...) and then boxed.
+     * @param collectionFactory creates the (empty) collection the converted elements are added to.
+     * @return the collection created by collectionFactory, holding the converted elements.
+     * @throws IllegalArgumentException if any element cannot be converted to elementType.
+     */
+    public <T, C extends Collection<T>> C convertAll(Collection<?> source, Class<T> elementType, Supplier<C> collectionFactory) {
+        checkConvertAll(elementType, collectionFactory);
+        return BulkConversions.toCollection(source, elementType, collectionFactory.get(), this);
+    }
+
+    /**
+     * Convert each element of the source collection to the passed in element type, splitting the work into chunks run
+     * on the passed in Executor.  Each chunk resolves the conversion for each runtime class it finds once.  When all
+     * chunks are done, the results are added, in the source's iteration order, to a collection created by the passed
+     * in factory on the calling thread, so the collection need not be thread-safe.  Pass a ForkJoinPool (such as
+     * ForkJoinPool.commonPool()) for work-stealing.  Collections too small to be worth splitting are converted on
+     * the calling thread.
+     * <br><br>
+     * Conversions may be added (addConversion()) while this runs - each chunk sees the conversions in place when it
+     * resolved them.  Any conversions added via addConversion() must be thread-safe (the built-in conversions are).
+     * @param source            collection of values to convert.  Elements may be of mixed types, and may be null.
+     *                          It must not be modified while this runs.
+     * @param elementType       Class the elements are converted to.
+     * @param collectionFactory creates the (empty) collection the converted elements are added to.
+     * @param executor          runs the chunks.
+     * @return the collection created by collectionFactory, holding the converted elements.
+     * @throws IllegalArgumentException if any element cannot be converted to elementType.
+     * @see #convertAll(Collection, Class, Supplier)
+     */
+    public <T, C extends Collection<T>> C convertAll(Collection<?> source, Class<T> elementType, Supplier<C> collectionFactory, Executor executor) {
+        checkConvertAll(elementType, collectionFactory);
+        if (executor == null) {
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+        return BulkConversions.toCollection(source, elementType, collectionFactory.get(), executor, this);
+    }
+
+    private static void checkConvertAll(Class<?> elementType, Supplier<?> collectionFactory) {
+        if (elementType == null) {
+            throw new IllegalArgumentException("elementType cannot be null");
+        }
+        if (collectionFactory == null) {
+            throw new IllegalArgumentException("collectionFactory cannot be null");
+        }
+    }
+
+    /**
+     * Resolve the conversion from one type to another, once, returning a reusable {@link ConversionPlan}.  The
+     * lookup, primitive to primitive wrapper promotion, and inheritance resolution that convert() performs on
+     * every call are done here up front, so that applying the plan is a single call to the resolved Convert.
+     * This is useful when the same source/target pair is converted repeatedly, for example, a column of
+     * Strings to LocalDates.
+     * <pre>
+     *     ConversionPlan&lt;String, LocalDate&gt; plan = converter.getConverter(String.class, LocalDate.class);
+     *     for (String cell : column) {
+     *         dates.add(plan.convert(cell));
+     *     }
+     * </pre>
+     * The conversion is resolved against the declared source type, so instances of a subclass of sourceType are
+     * converted the same way as the declared type.  Conversions added to this Converter after the plan is created
+     * are not seen by the plan.  A ConversionPlan is immutable and thread-safe.
+     *
+     * @param sourceType Class of the values that will be passed to the plan.
+     * @param toType     Class which indicates the targeted (final) data type.
+     * @return ConversionPlan that converts instances of sourceType to toType.
+     * @throws IllegalArgumentException if the conversion is not supported.
+     */
+    public <S, T> ConversionPlan<S, T> getConverter(Class<S> sourceType, Class<T> toType) {
+        if (sourceType == null) {
+            throw new IllegalArgumentException("sourceType cannot be null");
+        }
+        if (toType == null) {
+            throw new IllegalArgumentException("toType cannot be null");
+        }
+        Class<?> source = ClassUtilities.toPrimitiveWrapperClass(sourceType);
+        Convert<?> converter = resolveConverter(source, ClassUtilities.toPrimitiveWrapperClass(toType));
+        if (converter == null) {
+            throw new IllegalArgumentException("Unsupported conversion, source type [" + getShortName(source) + "] target type '" + getShortName(toType) + "'");
+        }
+
+        // null is not promoted to the wrapper type, matching convert(null, toType).
+        Convert<?> nullConverter = resolveConverter(Void.class, toType);
+        if (nullConverter == null) {
+            nullConverter = (from, conv) -> conv.convert(null, toType);
+        }
+        return new ConversionPlan<>(this, sourceType, toType, converter, nullConverter);
+    }
+
+    /**
+     * Create a FieldSink, which builds instances of the passed in type from key/value pairs (the same keys used when
+     * converting a Map to the type), without a Map being created for each instance.  Intended for parsers that would
+     * otherwise build a Map only to convert it.
+     * <pre>
+     *     FieldSink&lt;UUID&gt; sink = converter.newFieldSink(UUID.class);
+     *     UUID uuid = sink.put("mostSigBits", most).put("leastSigBits", least).build();
+     * </pre>
+     * @param targetType type to build.
+     * @return a new, reusable FieldSink.  It is not thread-safe.
+     * @throws IllegalArgumentException if converting a Map to targetType is not supported.
+     */
+    public <T> FieldSink<T> newFieldSink(Class<T> targetType) {
+        if (targetType == null) {
+            throw new IllegalArgumentException("targetType cannot be null");
+        }
+        if (!isConversionSupportedFor(Map.class, targetType)) {
+            throw new IllegalArgumentException("Unsupported conversion, source type [Map] target type '" + getShortName(ClassUtilities.toPrimitiveWrapperClass(targetType)) + "'");
+        }
+        return new FieldSink<>(this, targetType);
+    }
+
+    /**
+     * @return true if this instance has conversions of its own (options overrides or addConversion()), which may
+     * replace built-in conversions.
+     */
+    boolean hasOverrides() {
+        return overrides != EMPTY_OVERRIDES;
+    }
+
+    /**
+     * Find the Convert for the passed in source and target types, first by direct lookup, then by inheritance.
+     * Expected that source and target classes, if primitive, have already been shifted to primitive wrapper classes
+     * (with the exception of the Void source type, which keeps primitive targets as-is).  The result of the
+     * inheritance search, including "not supported", is remembered until the next addConversion().
+     * @return Convert instance, or null if the conversion is not supported.
+     */
+    Convert<?> resolveConverter(Class<?> sourceType, Class<?> toType) {
         // Direct Mapping
-        Convert<?> converter = factory.get(pair(sourceType, toType));
+        Convert<?> converter = getFactory(sourceType, toType);
         if (converter != null && converter != UNSUPPORTED) {
-            return (T) converter.convert(from, this);
+            return converter;
         }
 
-        // Try inheritance
-        converter = getInheritedConverter(sourceType, toType);
-        if (converter != null && converter != UNSUPPORTED) {
-            // Fast lookup next time.
-            if (!isDirectConversionSupportedFor(sourceType, toType)) {
-                addConversion(sourceType, toType, converter);
+        // Try inheritance (remembered)
+        ConversionTable cache = resolved;
+        converter = cache.get(sourceType, toType);
+        if (converter == null) {
+            converter = getInheritedConverter(sourceType, toType);
+            if (converter == null && toType.isEnum()) {
+                converter = EnumConversions.getConverter(sourceType, toType);
             }
-            return (T) converter.convert(from, this);
+            if (converter == null && options.isMultiHopConversionEnabled()) {
+                converter = getMultiHopConverter(sourceType, toType);
+            }
+            if (converter == null) {
+                converter = UNSUPPORTED;
+            }
+            cache.put(sourceType, toType, converter);
         }
-
-        throw new IllegalArgumentException("Unsupported conversion, source type [" + name(from) + "] target type '" + getShortName(toType) + "'");
+        return converter == UNSUPPORTED ? null : converter;
     }
 
     /**
@@ -957,28 +1582,39 @@ public final class Converter {
         Set<ClassLevel> targetTypes = new TreeSet<>(getSuperClassesAndInterfaces(toType));
         targetTypes.add(new ClassLevel(toType, 0));
 
-        Class<?> sourceClass = sourceType;
-        Class<?> targetClass = toType;
-
         for (ClassLevel toClassLevel : targetTypes) {
-            sourceClass = null;
-            targetClass = null;
-
             for (ClassLevel fromClassLevel : sourceTypes) {
-                if (factory.containsKey(pair(fromClassLevel.clazz, toClassLevel.clazz))) {
-                    sourceClass = fromClassLevel.clazz;
-                    targetClass = toClassLevel.clazz;
-                    break;
+                Convert<?> converter = getFactory(fromClassLevel.clazz, toClassLevel.clazz);
+                if (converter != null) {
+                    return converter;
                 }
             }
-
-            if (sourceClass != null && targetClass != null) {
-                break;
-            }
         }
+        return null;
+    }
 
-        Convert<?> converter = factory.get(pair(sourceClass, targetClass));
-        return converter;
+    /**
+     * Find the cheapest chain of direct conversions from sourceType (or one of its super classes or interfaces) to
+     * toType, compiled into a single Convert.
+     * @return Convert instance, or null if no chain of conversions reaches toType.
+     */
+    private Convert<?> getMultiHopConverter(Class<?> sourceType, Class<?> toType) {
+        if (sourceType == Void.class) {
+            return null;
+        }
+        ConversionTable local = overrides;
+        ConversionGraph conversions = graph;
+        if (conversions == null || conversions.getBasis() != local) {
+            conversions = new ConversionGraph(options, local);
+            forEachConversion(conversions::add);
+            graph = conversions;
+        }
+        List<Class<?>> sourceTypes = new ArrayList<>();
+        sourceTypes.add(sourceType);
+        for (ClassLevel level : getSuperClassesAndInterfaces(sourceType)) {
+            sourceTypes.add(level.clazz);
+        }
+        return conversions.findPath(sourceTypes, toType);
     }
 
     private static Set<ClassLevel> getSuperClassesAndInterfaces(Class<?> clazz) {
@@ -1064,7 +1700,7 @@ public final class Converter {
     boolean isDirectConversionSupportedFor(Class<?> source, Class<?> target) {
         source =  ClassUtilities.toPrimitiveWrapperClass(source);
         target =  ClassUtilities.toPrimitiveWrapperClass(target);
-        Convert<?> method = factory.get(pair(source, target));
+        Convert<?> method = getFactory(source, target);
         return method != null && method != UNSUPPORTED;
     }
 
@@ -1078,49 +1714,132 @@ public final class Converter {
     public boolean isConversionSupportedFor(Class<?> source, Class<?> target) {
         source =  ClassUtilities.toPrimitiveWrapperClass(source);
         target =  ClassUtilities.toPrimitiveWrapperClass(target);
-        Convert<?> method = factory.get(pair(source, target));
-        if (method != null && method != UNSUPPORTED) {
-            return true;
-        }
-
-        method = getInheritedConverter(source, target);
-        return method != null && method != UNSUPPORTED;
+        return resolveConverter(source, target) != null;
     }
 
     /**
      * @return Map<Class, Set < Class>> which contains all supported conversions. The key of the Map is a source class,
-     * and the Set contains all the target types (classes) that the source can be converted to.
+     * and the Set contains all the target types (classes) that the source can be converted to.  The Map and Sets are
+     * unmodifiable (modifying them throws UnsupportedOperationException - copy them first), and the Map is not
+     * rebuilt on each call: it is a live view that shows conversions added later by addConversion().  Before 2.4.9 a
+     * modifiable copy was returned.  See {@link #getSupportedTargets(Class)} and {@link #getSupportedSources(Class)}
+     * to look up one class.
      */
     public Map<Class<?>, Set<Class<?>>> allSupportedConversions() {
-        Map<Class<?>, Set<Class<?>>> toFrom = new TreeMap<>((c1, c2) -> c1.getName().compareToIgnoreCase(c2.getName()));
-
-        for (Map.Entry<Map.Entry<Class<?>, Class<?>>, Convert<?>> entry : factory.entrySet()) {
-            if (entry.getValue() != UNSUPPORTED) {
-                Map.Entry<Class<?>, Class<?>> pair = entry.getKey();
-                toFrom.computeIfAbsent(pair.getKey(), k -> new TreeSet<>((c1, c2) -> c1.getName().compareToIgnoreCase(c2.getName()))).add(pair.getValue());
-            }
-        }
-        return toFrom;
+        return getIndex().getTargets();
     }
 
     /**
      * @return Map<String, Set < String>> which contains all supported conversions. The key of the Map is a source class
-     * name, and the Set contains all the target class names that the source can be converted to.
+     * name, and the Set contains all the target class names that the source can be converted to.  The Map and Sets
+     * are unmodifiable (modifying them throws UnsupportedOperationException - copy them first), and the Map is a
+     * live view that shows conversions added later by addConversion().  Before 2.4.9 a modifiable copy was returned.
      */
     public Map<String, Set<String>> getSupportedConversions() {
-        Map<String, Set<String>> toFrom = new TreeMap<>(String::compareToIgnoreCase);
+        return getIndex().getNames();
+    }
 
-        for (Map.Entry<Map.Entry<Class<?>, Class<?>>, Convert<?>> entry : factory.entrySet()) {
-            if (entry.getValue() != UNSUPPORTED) {
-                Map.Entry<Class<?>, Class<?>> pair = entry.getKey();
-                toFrom.computeIfAbsent(getShortName(pair.getKey()), k -> new TreeSet<>(String::compareToIgnoreCase)).add(getShortName(pair.getValue()));
-            }
+    /**
+     * @param source Class of source type (a primitive type is looked up as its wrapper).
+     * @return unmodifiable Set of the classes that the source class converts to directly (the same Set as in
+     * allSupportedConversions()), empty if none.  Conversions found through the source's super classes and
+     * interfaces are not included - see {@link #isConversionSupportedFor(Class, Class)}.  The lookup is O(1), a hash
+     * lookup by Class.
+     */
+    public Set<Class<?>> getSupportedTargets(Class<?> source) {
+        return getIndex().getTargets(ClassUtilities.toPrimitiveWrapperClass(source));
+    }
+
+    /**
+     * @param target Class of target type (a primitive type is looked up as its wrapper).
+     * @return unmodifiable Set of the classes that convert directly to the target class, empty if none.  The lookup
+     * is O(1), a hash lookup by Class.
+     */
+    public Set<Class<?>> getSupportedSources(Class<?> target) {
+        return getIndex().getSources(ClassUtilities.toPrimitiveWrapperClass(target));
+    }
+
+    private ConversionIndex getIndex() {
+        ConversionTable local = overrides;
+        ConversionIndex current = index;
+        if (current == null || current.getBasis() != local) {
+            current = ConversionIndex.build(local, visitor -> forEachConversion(local, (source, target, converter) -> {
+                if (converter != UNSUPPORTED) {
+                    visitor.visit(source, target, converter);
+                }
+            }));
+            index = current;
+        }
+        return current;
+    }
+
+    /**
+     * Metrics recorded by convert() (and convertOrDefault(), convertToInt(), convertToLong(), convertToDouble(), and
+     * convertToBoolean()) when {@link ConverterOptions#isMetricsEnabled()} is true.  ConversionPlans and the bulk
+     * conversions (convertArray(), convertColumn(), convertAll()) are not recorded.
+     * @return a snapshot of the metrics for each (source, target) pair converted, most converted first.  Empty if
+     * metrics are not enabled.
+     */
+    public List<ConversionStats> getConversionStats() {
+        return metrics == null ? new ArrayList<>() : metrics.snapshot();
+    }
+
+    /**
+     * Clear the metrics recorded so far.  Does nothing if metrics are not enabled.
+     */
+    public void resetConversionStats() {
+        if (metrics != null) {
+            metrics.reset();
+        }
+    }
+
+    /**
+     * @return a snapshot of the hits, misses, and evictions of the date-time parse cache (see
+     * {@link ConverterOptions#getDateParseCacheSize()}).  All zero if the cache is not enabled.
+     */
+    public DateParseCacheStats getDateParseCacheStats() {
+        return dateParseCache == null ? new DateParseCacheStats(0, 0, 0, 0, 0) : dateParseCache.snapshot();
+    }
+
+    /**
+     * Empty the date-time parse cache and reset its counts.  Does nothing if the cache is not enabled.
+     */
+    public void clearDateParseCache() {
+        if (dateParseCache != null) {
+            dateParseCache.clear();
+        }
+    }
+
+    /**
+     * @return the date-time parse cache, or null if it is not enabled.
+     */
+    DateParseCache getDateParseCache() {
+        return dateParseCache;
+    }
+
+    /**
+     * Register this Converter's metrics with the platform MBeanServer, as
+     * "com.cedarsoftware.util.convert:type=Converter,name=<i>name</i>".  See {@link ConverterMetricsMXBean}.
+     * @param name name to distinguish this Converter from others registered.
+     * @return ObjectName the metrics were registered under, for use in unregistering them.
+     * @throws IllegalStateException if metrics are not enabled, or the name is already registered.
+     */
+    public ObjectName registerMetricsMBean(String name) {
+        if (metrics == null) {
+            throw new IllegalStateException("Metrics are not enabled, see ConverterOptions.isMetricsEnabled()");
+        }
+        try {
+            ObjectName objectName = new ObjectName("com.cedarsoftware.util.convert:type=Converter,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+            return objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to register Converter metrics MBean with name: " + name, e);
         }
-        return toFrom;
     }
 
     /**
-     * Add a new conversion.
+     * Add a new conversion.  The conversion is scoped to this Converter instance.  Additions are copy-on-write,
+     * so conversions running concurrently on other threads are not blocked (nor affected) while one is added.
      *
      * @param source             Class to convert from.
      * @param target             Class to convert to.
@@ -1130,7 +1849,18 @@ public final class Converter {
     public Convert<?> addConversion(Class<?> source, Class<?> target, Convert<?> conversionFunction) {
         source = ClassUtilities.toPrimitiveWrapperClass(source);
         target = ClassUtilities.toPrimitiveWrapperClass(target);
-        return factory.put(pair(source, target), conversionFunction);
+        synchronized (this) {
+            Convert<?> prior = getFactory(source, target);
+            ConversionTable table = overrides.copy();
+            table.put(source, target, conversionFunction);
+            ConversionIndex current = index;
+            if (current != null && current.getBasis() == overrides) {
+                current.add(table, source, target, conversionFunction != UNSUPPORTED);
+            }
+            overrides = table;
+            resolved = new ConversionTable();
+            return prior;
+        }
     }
 
     /**
@@ -0,0 +1,45 @@
+package com.cedarsoftware.util.convert;
+
+import java.util.Map;
+
+/**
+ * JMX view of the conversion metrics recorded by a Converter.  Register it with
+ * {@link Converter#registerMetricsMBean(String)}.  Per-pair values are keyed by "Source -> Target" (full class
+ * names, e.g. "java.lang.String -> java.lang.Long"), and appear as tables in JMX consoles.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+public interface ConverterMetricsMXBean {
+    long getTotalCalls();
+
+    long getTotalExceptions();
+
+    Map<String, Long> getCallCounts();
+
+    Map<String, Long> getInheritanceMissCounts();
+
+    Map<String, Long> getExceptionCounts();
+
+    Map<String, Long> getMeanLatencyNanos();
+
+    Map<String, Long> getP99LatencyNanos();
+
+    /**
+     * Clear all recorded metrics.
+     */
+    void reset();
+}
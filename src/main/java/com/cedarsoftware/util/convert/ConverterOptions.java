@@ -9,6 +9,7 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author Kenny Partlow (kpartlow@gmail.com)
@@ -71,6 +72,68 @@ public interface ConverterOptions {
      */
     default Character falseChar() { return CommonValues.CHARACTER_ZERO; }
 
+    /**
+     * Minimum number of elements before the bulk conversion APIs (convertArray(), convertColumn()) split the work
+     * across the common ForkJoinPool.  When enabled, any conversions added via addConversion() must be thread-safe
+     * (the built-in conversions are).
+     * @return element count at which bulk conversions run in parallel.  Default is Integer.MAX_VALUE (never).
+     */
+    default int getParallelConversionThreshold() { return Integer.MAX_VALUE; }
+
+    /**
+     * When true, a conversion between two types that has no direct (or inherited) conversion is attempted as a chain
+     * of registered conversions, for example Year to Character via Integer.  The cheapest chain, as weighed by
+     * getConversionCost(), is found once per pair and remembered, so later conversions of the pair are a single call.
+     * @return true to enable multi-hop conversions.  Default is false.
+     */
+    default boolean isMultiHopConversionEnabled() { return false; }
+
+    /**
+     * Cost of using the direct conversion from source to target as one hop of a multi-hop conversion.  Only
+     * consulted when isMultiHopConversionEnabled() returns true.
+     * Whatever the cost, a chain is at most 3 conversions long, and String, Boolean, AtomicBoolean and Map may only be
+     * its final target, never a hop in the middle.
+     * @return cost of the hop, or a negative value to never use the conversion as a hop.  Default is 1, and 3 when
+     * the target is String (formatted, then parsed again).  Conversions from Map are not used as hops (-1), as they
+     * require specific keys that the prior hop's Map will rarely have, nor are conversions to Boolean/AtomicBoolean
+     * (-1), as true or false at the end of a chain reflects the value of the prior hop, not of the source.
+     */
+    default int getConversionCost(Class<?> source, Class<?> target) {
+        if (source == Map.class || target == Boolean.class || target == AtomicBoolean.class) {
+            return -1;
+        }
+        if (target == String.class) {
+            return 3;
+        }
+        return 1;
+    }
+
+    /**
+     * When true, the Converter records call counts, latency, inheritance misses, and exceptions per (source, target)
+     * pair.  See Converter.getConversionStats() and Converter.registerMetricsMBean().  When false (the default), the
+     * only cost is a null check per conversion.
+     * @return true to record conversion metrics.  Default is false.
+     */
+    default boolean isMetricsEnabled() { return false; }
+
+    /**
+     * Number of date-time Strings whose parsed result the Converter keeps, so that converting a String seen recently
+     * (to a Date, Instant, LocalDateTime, ZonedDateTime, ...) costs a cache lookup instead of a parse.  Worthwhile
+     * when the same timestamps repeat, as in log and event ingestion.  Strings in the plain ISO-8601 forms are parsed
+     * directly without the cache, as that is as fast as the lookup.  See Converter.getDateParseCacheStats().
+     * @return maximum number of Strings cached, or 0 to not cache.  Default is 0.
+     */
+    default int getDateParseCacheSize() { return 0; }
+
+    /**
+     * When true, conversions to ByteBuffer from String, StringBuilder, StringBuffer, CharBuffer, char[], and byte[]
+     * return direct (off-heap) buffers, for handing to channels without another copy.  Characters are encoded with
+     * the charset (getCharset()) straight into direct memory, by a reused CharsetEncoder, with no intermediate
+     * byte[].  Allocating a direct buffer costs more than a heap buffer, so this pays off for large payloads.
+     * @return true to convert to direct ByteBuffers.  Default is false (heap ByteBuffers).
+     */
+    default boolean isDirectByteBufferEnabled() { return false; }
+
     /**
      * Overrides for converter conversions..
      * @return The Map of overrides.
@@ -0,0 +1,126 @@
+package com.cedarsoftware.util.convert;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.cedarsoftware.util.DateUtilities;
+import com.cedarsoftware.util.StringUtilities;
+
+/**
+ * Bounded cache of date-time Strings parsed by DateUtilities.parseDate(), kept by a Converter whose options have
+ * {@link ConverterOptions#getDateParseCacheSize()} above 0.  Lookups are ConcurrentHashMap reads, without a lock, so
+ * that threads converting the same timestamps do not wait on each other.  Eviction approximates least-recently-used
+ * with a clock: a hit marks its entry, and a clock hand sweeps the cached Strings in insertion order, sparing (and
+ * unmarking) marked entries and evicting the first unmarked one.  Only adding a String takes a lock, after a parse.  Each result is stored with the
+ * default zone it was parsed with, so a String without a zone is parsed again if the options' zone has changed.
+ * Failed parses are not cached, and empty Strings are not looked up.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+final class DateParseCache {
+    private final int capacity;
+    private final Map<String, Entry> cache;
+    // The cached Strings, in the order the clock hand passes them, guarded by the lock on this ring.
+    private final String[] ring;
+    private int hand;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder added = new LongAdder();
+
+    DateParseCache(int capacity) {
+        this.capacity = capacity;
+        this.cache = new ConcurrentHashMap<>(Math.min(capacity, 1 << 16));
+        this.ring = new String[capacity];
+    }
+
+    /**
+     * @return the same result as DateUtilities.parseDate(str, zoneId, true), from the cache when str has been parsed
+     * before with the same default zone.
+     */
+    ZonedDateTime parse(String str, ZoneId zoneId) {
+        if (StringUtilities.isEmpty(str)) {
+            return null;
+        }
+        Entry entry = cache.get(str);
+        if (entry != null && entry.zoneId.equals(zoneId)) {
+            if (!entry.used) {
+                entry.used = true;      // written only when not already set, so hot entries are only read
+            }
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        ZonedDateTime value = DateUtilities.parseDate(str, zoneId, true);
+        if (value != null) {
+            add(str, new Entry(zoneId, value));
+        }
+        return value;
+    }
+
+    private void add(String str, Entry entry) {
+        synchronized (ring) {
+            if (cache.put(str, entry) != null) {
+                return;     // replaced (parsed with another zone), already on the ring
+            }
+            added.increment();
+            while (ring[hand] != null) {
+                Entry cached = cache.get(ring[hand]);
+                if (cached == null || !cached.used) {
+                    cache.remove(ring[hand]);
+                    break;
+                }
+                cached.used = false;
+                hand = (hand + 1) % ring.length;
+            }
+            ring[hand] = str;
+            hand = (hand + 1) % ring.length;
+        }
+    }
+
+    DateParseCacheStats snapshot() {
+        int size = cache.size();
+        return new DateParseCacheStats(capacity, size, hits.sum(), misses.sum(), Math.max(0, added.sum() - size));
+    }
+
+    void clear() {
+        synchronized (ring) {
+            cache.clear();
+            Arrays.fill(ring, null);
+            hand = 0;
+        }
+        hits.reset();
+        misses.reset();
+        added.reset();
+    }
+
+    private static final class Entry {
+        private final ZoneId zoneId;
+        private final ZonedDateTime value;
+        // Set by a hit, cleared as the clock hand passes.  Not volatile: a lost update only changes which entry is
+        // evicted.
+        private boolean used;
+
+        Entry(ZoneId zoneId, ZonedDateTime value) {
+            this.zoneId = zoneId;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.cedarsoftware.util.convert;
+
+/**
+ * Point-in-time metrics for the date-time parse cache of a Converter whose options have
+ * {@link ConverterOptions#getDateParseCacheSize()} above 0.  See {@link Converter#getDateParseCacheStats()}.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+public final class DateParseCacheStats {
+    private final int capacity;
+    private final int size;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+
+    DateParseCacheStats(int capacity, int size, long hits, long misses, long evictions) {
+        this.capacity = capacity;
+        this.size = size;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+    }
+
+    /**
+     * @return maximum number of Strings cached, or 0 if the cache is not enabled.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of Strings currently cached.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return number of parses answered from the cache.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return number of parses not found in the cache (including Strings that failed to parse).
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return number of cached Strings removed to make room for others (least recently used first).
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return hits as a fraction of all lookups, from 0.0 to 1.0, or 0.0 if there were none.
+     */
+    public double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0d : (double) hits / lookups;
+    }
+
+    public String toString() {
+        return "DateParseCache: capacity=" + capacity + ", size=" + size + ", hits=" + hits + ", misses=" + misses +
+                ", evictions=" + evictions;
+    }
+}
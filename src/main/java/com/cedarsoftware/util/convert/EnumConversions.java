@@ -1,10 +1,16 @@
 package com.cedarsoftware.util.convert;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import com.cedarsoftware.util.CompactLinkedMap;
 
 /**
+ * Conversions from and to enums.  Conversions to an enum class are not registered per class - Converter asks
+ * getConverter() for one the first time each (source, enum class) pair is converted.  Constants are looked up in a
+ * table built once per enum class (EnumTable, cached by ClassValue), so converting a name or an ordinal is a hash
+ * probe or an array index, without Enum.valueOf() and the exception it throws for an unknown name.
+ *
  * @author John DeRegnaucourt (jdereg@gmail.com)
  *         <br>
  *         Copyright (c) Cedar Software LLC
@@ -22,13 +28,157 @@ import com.cedarsoftware.util.CompactLinkedMap;
  *         limitations under the License.
  */
 final class EnumConversions {
+    private static final ClassValue<EnumTable> TABLES = new ClassValue<EnumTable>() {
+        protected EnumTable computeValue(Class<?> type) {
+            return new EnumTable(type);
+        }
+    };
 
     private EnumConversions() {}
 
     static Map toMap(Object from, Converter converter) {
         Enum enumInstance = (Enum) from;
         Map<String, Object> target = new CompactLinkedMap<>();
-        target.put("name", enumInstance.name());
+        target.put(MapConversions.NAME, enumInstance.name());
         return target;
     }
+
+    /**
+     * @return the lookup table for the passed in enum class.
+     */
+    static EnumTable getTable(Class<?> enumClass) {
+        return TABLES.get(enumClass);
+    }
+
+    /**
+     * @param source source class (Void for null).
+     * @param enumClass target class, an enum.
+     * @return Convert from the source class to the enum class, or null if there is none.  A CharSequence is
+     * converted by name (see {@link EnumTable#fromName(String)}), a Number by ordinal, a Map by its "name" (or
+     * "value" or "_v") entry, and a constant of the enum to itself.
+     */
+    static Convert<?> getConverter(Class<?> source, Class<?> enumClass) {
+        if (source == Void.class) {
+            return VoidConversions::toNull;
+        }
+        if (enumClass.isAssignableFrom(source)) {
+            return (from, converter) -> from;
+        }
+        EnumTable table = getTable(enumClass);
+        if (CharSequence.class.isAssignableFrom(source)) {
+            return (from, converter) -> table.fromName(from.toString());
+        }
+        if (Number.class.isAssignableFrom(source)) {
+            return (from, converter) -> table.fromOrdinal((Number) from);
+        }
+        if (Map.class.isAssignableFrom(source)) {
+            return (from, converter) -> MapConversions.toEnum(from, converter, enumClass);
+        }
+        return null;
+    }
+
+    /**
+     * Constants of one enum class, by name, by case-folded name, and by ordinal.  Immutable.
+     */
+    static final class EnumTable {
+        private final Class<?> type;
+        private final Enum<?>[] constants;
+        private final Map<String, Enum<?>> byName;
+        // Open addressing hash table, at most half full, of the constants by name ignoring case.  When two constants'
+        // names differ only in case, the first declared is found.
+        private final Enum<?>[] byFoldedName;
+
+        EnumTable(Class<?> type) {
+            this.type = type;
+            constants = (Enum<?>[]) type.getEnumConstants();
+            byName = new HashMap<>(constants.length * 2);
+            int size = Integer.highestOneBit(Math.max(1, constants.length) * 2) << 1;
+            byFoldedName = new Enum<?>[size];
+            for (Enum<?> constant : constants) {
+                byName.put(constant.name(), constant);
+                if (getIgnoreCase(constant.name()) == null) {
+                    int i = foldedHash(constant.name()) & (size - 1);
+                    while (byFoldedName[i] != null) {
+                        i = (i + 1) & (size - 1);
+                    }
+                    byFoldedName[i] = constant;
+                }
+            }
+        }
+
+        /**
+         * @return the constant with exactly the passed in name, or null if there is none.
+         */
+        Enum<?> get(String name) {
+            return byName.get(name);
+        }
+
+        /**
+         * @return the constant with the passed in name ignoring case, or null if there is none.
+         */
+        Enum<?> getIgnoreCase(String name) {
+            int mask = byFoldedName.length - 1;
+            for (int i = foldedHash(name) & mask; ; i = (i + 1) & mask) {
+                Enum<?> constant = byFoldedName[i];
+                if (constant == null || constant.name().equalsIgnoreCase(name)) {
+                    return constant;
+                }
+            }
+        }
+
+        /**
+         * @return the constant with the passed in ordinal, or null if there is none.
+         */
+        Enum<?> get(int ordinal) {
+            return ordinal >= 0 && ordinal < constants.length ? constants[ordinal] : null;
+        }
+
+        /**
+         * Look up a constant by name: the exact name first, then the name with leading and trailing whitespace
+         * removed, then that name ignoring case.
+         * @return the constant, or null if the name is empty or whitespace.
+         * @throws IllegalArgumentException if no constant has the name.
+         */
+        Enum<?> fromName(String name) {
+            Enum<?> constant = byName.get(name);
+            if (constant != null) {
+                return constant;
+            }
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                return null;
+            }
+            constant = trimmed == name ? null : byName.get(trimmed);
+            if (constant == null) {
+                constant = getIgnoreCase(trimmed);
+            }
+            if (constant == null) {
+                throw new IllegalArgumentException("Value '" + name + "' is not a constant of enum " + Converter.getShortName(type));
+            }
+            return constant;
+        }
+
+        /**
+         * @throws IllegalArgumentException if no constant has the ordinal (or the number is not a whole number).
+         */
+        Enum<?> fromOrdinal(Number ordinal) {
+            long value = ordinal.longValue();
+            Enum<?> constant = value == (int) value ? get((int) value) : null;
+            if (constant == null || value != ordinal.doubleValue()) {
+                throw new IllegalArgumentException("Value '" + ordinal + "' is not an ordinal of enum " + Converter.getShortName(type) + ", valid ordinals are 0 to " + (constants.length - 1));
+            }
+            return constant;
+        }
+
+        /**
+         * Hash of the name that is the same for names that are equal ignoring case (String.equalsIgnoreCase()).
+         */
+        private static int foldedHash(String name) {
+            int h = 0;
+            for (int i = 0; i < name.length(); i++) {
+                h = 31 * h + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+            }
+            return h ^ (h >>> 16);
+        }
+    }
 }
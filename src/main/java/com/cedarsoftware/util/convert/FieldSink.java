@@ -0,0 +1,223 @@
+package com.cedarsoftware.util.convert;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.cedarsoftware.util.ClassUtilities;
+
+/**
+ * Builds one target type from key/value pairs pushed into it, for example by a parser, using the same keys and rules
+ * as converting a Map to the target type (see {@link Converter#convert(Object, Class)}) - but without a Map being
+ * built for each value.  Obtain one from {@link Converter#newFieldSink(Class)}, then for each value to produce,
+ * put() its fields and call build().  build() clears the fields, so the sink is ready for the next value.
+ * <pre>
+ *     FieldSink&lt;UUID&gt; sink = converter.newFieldSink(UUID.class);
+ *     UUID uuid = sink.put("mostSigBits", most).put("leastSigBits", least).build();
+ * </pre>
+ * UUID (mostSigBits, leastSigBits), and Calendar, ZonedDateTime, and Date (epochMillis), when given with put(String,
+ * long), are created directly with no boxing or intermediate objects.  All other keys and target types are handed
+ * to the Map conversion through a Map view of the fields that is reused from value to value.
+ * <br><br>
+ * A FieldSink is not thread-safe - use one per thread (or parser).
+ *
+ * @param <T> target type
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+public final class FieldSink<T> {
+    private final Converter converter;
+    private final Class<T> targetType;
+    private final Class<?> wrapperType;
+    private final Fields fields = new Fields();
+    private String[] keys = new String[8];
+    private Object[] values = new Object[8];
+    private long[] longs = new long[8];
+    private boolean[] isLong = new boolean[8];
+    private int size;
+
+    FieldSink(Converter converter, Class<T> targetType) {
+        this.converter = converter;
+        this.targetType = targetType;
+        this.wrapperType = ClassUtilities.toPrimitiveWrapperClass(targetType);
+    }
+
+    /**
+     * Set a field.  Setting a field again replaces its value, as with Map.put().
+     * @return this FieldSink, for chaining.
+     */
+    public FieldSink<T> put(String key, Object value) {
+        int i = slot(key);
+        values[i] = value;
+        isLong[i] = false;
+        return this;
+    }
+
+    /**
+     * Set a field to a long value, without boxing it.
+     * @return this FieldSink, for chaining.
+     */
+    public FieldSink<T> put(String key, long value) {
+        int i = slot(key);
+        values[i] = null;
+        longs[i] = value;
+        isLong[i] = true;
+        return this;
+    }
+
+    /**
+     * Convert the fields set since the last build() (or reset()) to the target type, then clear them.
+     * @return instance of the target type.
+     * @throws IllegalArgumentException if the fields do not hold a value convertible to the target type (the same
+     * exception as converting a Map holding the same keys and values).
+     */
+    @SuppressWarnings("unchecked")
+    public T build() {
+        try {
+            Object result = direct();
+            if (result == null) {
+                Convert<?> convert = converter.resolveConverter(Map.class, wrapperType);
+                if (convert == null) {
+                    throw new IllegalArgumentException("Unsupported conversion, source type [Map] target type '" + Converter.getShortName(wrapperType) + "'");
+                }
+                result = convert.convert(fields, converter);
+            }
+            return (T) result;
+        } finally {
+            reset();
+        }
+    }
+
+    /**
+     * Clear the fields set so far.
+     */
+    public void reset() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * @return the type this sink builds.
+     */
+    public Class<T> getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * Create the target directly from long fields, for the common cases whose result is the same as the built-in Map
+     * conversion.  Not used when the Converter has conversions added, as they may replace the built-in ones.
+     * @return instance of the target type, or null if the fields are not one of the direct cases.
+     */
+    private Object direct() {
+        if (converter.hasOverrides()) {
+            return null;
+        }
+        if (wrapperType == UUID.class) {
+            int most = indexOf(MapConversions.MOST_SIG_BITS);
+            int least = indexOf(MapConversions.LEAST_SIG_BITS);
+            if (most >= 0 && least >= 0 && isLong[most] && isLong[least] && indexOf(MapConversions.UUID) < 0) {
+                return new UUID(longs[most], longs[least]);
+            }
+            return null;
+        }
+        int epochMillis = indexOf(MapConversions.EPOCH_MILLIS);
+        if (epochMillis < 0 || !isLong[epochMillis]) {
+            return null;
+        }
+        long millis = longs[epochMillis];
+        if (wrapperType == Calendar.class) {
+            return CalendarConversions.create(millis, converter);
+        }
+        if (wrapperType == ZonedDateTime.class) {
+            return Instant.ofEpochMilli(millis).atZone(converter.getOptions().getZoneId());
+        }
+        if (wrapperType == Date.class && indexOf(MapConversions.NANOS) < 0) {
+            return new Date(millis);
+        }
+        return null;
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int slot(String key) {
+        if (key == null) {
+            throw new IllegalArgumentException("FieldSink key cannot be null");
+        }
+        int i = indexOf(key);
+        if (i >= 0) {
+            return i;
+        }
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+            longs = Arrays.copyOf(longs, capacity);
+            isLong = Arrays.copyOf(isLong, capacity);
+        }
+        keys[size] = key;
+        return size++;
+    }
+
+    private Object value(int i) {
+        return isLong[i] ? (Object) longs[i] : values[i];
+    }
+
+    /**
+     * Read-only Map view of the current fields, handed to the Map conversions.  Lookups scan the (few) fields
+     * directly, without allocating.
+     */
+    private final class Fields extends AbstractMap<String, Object> {
+        public Object get(Object key) {
+            int i = indexOf(key);
+            return i < 0 ? null : value(i);
+        }
+
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        public Set<Entry<String, Object>> entrySet() {
+            Set<Entry<String, Object>> entries = new LinkedHashSet<>();
+            for (int i = 0; i < size; i++) {
+                entries.add(new SimpleImmutableEntry<>(keys[i], value(i)));
+            }
+            return entries;
+        }
+    }
+}
@@ -90,6 +90,7 @@ final class MapConversions {
     static final String MESSAGE = "message";
     static final String CAUSE = "cause";
     static final String CAUSE_MESSAGE = "causeMessage";
+    static final String NAME = "name";
     static final String OPTIONAL = " (optional)";
 
     private MapConversions() {}
@@ -630,6 +631,10 @@ final class MapConversions {
         return fromMap(from, converter, URI.class, new String[] {URI_KEY});
     }
 
+    static <T> T toEnum(Object from, Converter converter, Class<T> enumType) {
+        return fromMap(from, converter, enumType, new String[] {NAME});
+    }
+
     static Map<String, ?> initMap(Object from, Converter converter) {
         Map<String, Object> map = new CompactLinkedMap<>();
         map.put(V, from);
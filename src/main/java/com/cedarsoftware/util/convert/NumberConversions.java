@@ -121,13 +121,51 @@ final class NumberConversions {
     }
 
     static BigDecimal floatingPointToBigDecimal(Object from, Converter converter) {
-        return BigDecimal.valueOf(toDouble(from, converter));
+        return toBigDecimal(toDouble(from, converter));
     }
 
+    /**
+     * Same result (value and scale) as BigDecimal.valueOf(double), which parses Double.toString().  Doubles that
+     * Double.toString() writes without an exponent (0.001 to 10,000,000), with at most 15 significant digits, are
+     * built from an unscaled long instead: the shortest decimal that rounds back to the double is found by scaling
+     * by powers of ten until the scaled value is a whole number that divides back to the same double.
+     */
+    static BigDecimal toBigDecimal(double d) {
+        if (d == 0) {
+            return BigDecimal.valueOf(0, 1);
+        }
+        double abs = Math.abs(d);
+        if (abs >= 1e-3 && abs < 1e7) {
+            for (int scale = 1; scale < POWERS_OF_TEN.length; scale++) {
+                double scaled = d * POWERS_OF_TEN[scale];
+                if (Math.abs(scaled) >= 1e15) {
+                    break;
+                }
+                double unscaled = Math.rint(scaled);
+                if (unscaled / POWERS_OF_TEN[scale] == d) {
+                    return BigDecimal.valueOf((long) unscaled, scale);
+                }
+            }
+        }
+        return BigDecimal.valueOf(d);
+    }
+
+    // Powers of ten that are exact as doubles.
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+
     static BigInteger floatingPointToBigInteger(Object from, Converter converter) {
         double d = toDouble(from, converter);
-        String s = String.format("%.0f", (d > 0.0) ? Math.floor(d) : Math.ceil(d));
-        return new BigInteger(s);
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            throw new NumberFormatException("For input string: \"" + d + "\"");
+        }
+        // Casting truncates toward zero.  Below 2^53 the whole part of a double is exact, and is what
+        // BigDecimal.valueOf() gives.  Above that, valueOf() keeps only Double.toString()'s digits, padded with zeros.
+        if (Math.abs(d) < 0x1p53) {
+            return BigInteger.valueOf((long) d);
+        }
+        return BigDecimal.valueOf(d).toBigInteger();
     }
 
     static boolean isIntTypeNotZero(Object from, Converter converter) {
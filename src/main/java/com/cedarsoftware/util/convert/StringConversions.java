@@ -13,6 +13,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.Month;
 import java.time.MonthDay;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
@@ -26,7 +27,9 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -60,92 +63,212 @@ import static com.cedarsoftware.util.ArrayUtilities.EMPTY_CHAR_ARRAY;
  *         limitations under the License.
  */
 final class StringConversions {
-    private static final BigDecimal bigDecimalMinByte = BigDecimal.valueOf(Byte.MIN_VALUE);
-    private static final BigDecimal bigDecimalMaxByte = BigDecimal.valueOf(Byte.MAX_VALUE);
-    private static final BigDecimal bigDecimalMinShort = BigDecimal.valueOf(Short.MIN_VALUE);
-    private static final BigDecimal bigDecimalMaxShort = BigDecimal.valueOf(Short.MAX_VALUE);
-    private static final BigDecimal bigDecimalMinInteger = BigDecimal.valueOf(Integer.MIN_VALUE);
-    private static final BigDecimal bigDecimalMaxInteger = BigDecimal.valueOf(Integer.MAX_VALUE);
-    private static final BigDecimal bigDecimalMaxLong = BigDecimal.valueOf(Long.MAX_VALUE);
-    private static final BigDecimal bigDecimalMinLong = BigDecimal.valueOf(Long.MIN_VALUE);
     private static final Pattern MM_DD = Pattern.compile("^(\\d{1,2}).(\\d{1,2})$");
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private static final Map<Class<?>, RangeConvert> RANGE_CONVERSIONS = new HashMap<>();
+
+    static {
+        RANGE_CONVERSIONS.put(Byte.class, (s, start, end, converter) -> toByte(s, start, end));
+        RANGE_CONVERSIONS.put(Short.class, (s, start, end, converter) -> toShort(s, start, end));
+        RANGE_CONVERSIONS.put(Integer.class, (s, start, end, converter) -> toInt(s, start, end));
+        RANGE_CONVERSIONS.put(Long.class, (s, start, end, converter) -> toLong(s, start, end));
+        RANGE_CONVERSIONS.put(Double.class, (s, start, end, converter) -> toDouble(s, start, end));
+        RANGE_CONVERSIONS.put(Boolean.class, (s, start, end, converter) -> toBoolean(s, start, end));
+        RANGE_CONVERSIONS.put(UUID.class, (s, start, end, converter) -> toUUID(s, start, end));
+        RANGE_CONVERSIONS.put(ZonedDateTime.class, StringConversions::toZonedDateTime);
+        RANGE_CONVERSIONS.put(OffsetDateTime.class, (s, start, end, converter) -> {
+            ZonedDateTime zdt = toZonedDateTime(s, start, end, converter);
+            return zdt == null ? null : zdt.toOffsetDateTime();
+        });
+        RANGE_CONVERSIONS.put(LocalDate.class, (s, start, end, converter) -> {
+            ZonedDateTime zdt = toZonedDateTime(s, start, end, converter);
+            return zdt == null ? null : zdt.toLocalDate();
+        });
+        RANGE_CONVERSIONS.put(LocalDateTime.class, (s, start, end, converter) -> {
+            ZonedDateTime zdt = toZonedDateTime(s, start, end, converter);
+            return zdt == null ? null : zdt.toLocalDateTime();
+        });
+        RANGE_CONVERSIONS.put(Instant.class, (s, start, end, converter) -> {
+            ZonedDateTime zdt = toZonedDateTime(s, start, end, converter);
+            return zdt == null ? null : zdt.toInstant();
+        });
+        RANGE_CONVERSIONS.put(Date.class, (s, start, end, converter) -> {
+            ZonedDateTime zdt = toZonedDateTime(s, start, end, converter);
+            return zdt == null ? null : Date.from(zdt.toInstant());
+        });
+    }
 
     private StringConversions() {}
 
+    /**
+     * Conversion of the range [start, end) of a CharSequence, giving the same result as the built-in String
+     * conversion gives for s.subSequence(start, end).toString(), without creating that String.
+     */
+    @FunctionalInterface
+    interface RangeConvert {
+        Object convert(CharSequence s, int start, int end, Converter converter);
+    }
+
+    /**
+     * @return RangeConvert for the passed in target type (primitives already promoted to their wrapper), or null
+     * if the target type is only converted from a String.
+     */
+    static RangeConvert getRangeConvert(Class<?> toType) {
+        return RANGE_CONVERSIONS.get(toType);
+    }
+
     static String asString(Object from) {
         return from == null ? null : from.toString();
     }
 
     static Byte toByte(Object from, Converter converter) {
         String str = (String) from;
-        if (StringUtilities.isEmpty(str)) {
+        return toByte(str, 0, str.length());
+    }
+
+    static byte toByte(CharSequence s, int start, int end) {
+        if (isBlank(s, start, end)) {
             return (byte)0;
         }
-        try {
-            return Byte.valueOf(str);
-        } catch (NumberFormatException e) {
-            Long value = toLong(str, bigDecimalMinByte, bigDecimalMaxByte);
-            if (value == null) {
-                throw new IllegalArgumentException("Value '" + str + "' not parseable as a byte value or outside " + Byte.MIN_VALUE + " to " + Byte.MAX_VALUE, e);
-            }
-            return value.byteValue();
-        }
+        return (byte) parseLong(s, start, end, Byte.MIN_VALUE, Byte.MAX_VALUE, "a byte");
     }
 
     static Short toShort(Object from, Converter converter) {
         String str = (String) from;
-        if (StringUtilities.isEmpty(str)) {
+        return toShort(str, 0, str.length());
+    }
+
+    static short toShort(CharSequence s, int start, int end) {
+        if (isBlank(s, start, end)) {
             return (short)0;
         }
-        try {
-            return Short.valueOf(str);
-        } catch (Exception e) {
-            Long value = toLong(str, bigDecimalMinShort, bigDecimalMaxShort);
-            if (value == null) {
-                throw new IllegalArgumentException("Value '" + from + "' not parseable as a short value or outside " + Short.MIN_VALUE + " to " + Short.MAX_VALUE, e);
-            }
-            return value.shortValue();
-        }
+        return (short) parseLong(s, start, end, Short.MIN_VALUE, Short.MAX_VALUE, "a short");
     }
 
-    static Integer toInt(Object from, Converter converter) {
+    static int toInt(Object from, Converter converter) {
         String str = (String) from;
-        if (StringUtilities.isEmpty(str)) {
+        return toInt(str, 0, str.length());
+    }
+
+    static int toInt(CharSequence s, int start, int end) {
+        if (isBlank(s, start, end)) {
             return 0;
         }
-        try {
-            return Integer.valueOf(str);
-        } catch (NumberFormatException e) {
-            Long value = toLong(str, bigDecimalMinInteger, bigDecimalMaxInteger);
-            if (value == null) {
-                throw new IllegalArgumentException("Value '" + from + "' not parseable as an int value or outside " + Integer.MIN_VALUE + " to " + Integer.MAX_VALUE, e);
-            }
-            return value.intValue();
-        }
+        return (int) parseLong(s, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE, "an int");
     }
 
-    static Long toLong(Object from, Converter converter) {
+    static long toLong(Object from, Converter converter) {
         String str = (String) from;
-        if (StringUtilities.isEmpty(str)) {
+        return toLong(str, 0, str.length());
+    }
+
+    static long toLong(CharSequence s, int start, int end) {
+        if (isBlank(s, start, end)) {
             return 0L;
         }
+        return parseLong(s, start, end, Long.MIN_VALUE, Long.MAX_VALUE, "a long");
+    }
 
-        try {
-            return Long.valueOf(str);
-        } catch (Exception e) {
-            Long value = toLong(str, bigDecimalMinLong, bigDecimalMaxLong);
-            if (value == null) {
-                throw new IllegalArgumentException("Value '" + from + "' not parseable as a long value or outside " + Long.MIN_VALUE + " to " + Long.MAX_VALUE, e);
+    /**
+     * @return true if the range [start, end) of the passed in CharSequence is empty or whitespace only, the same
+     * test as StringUtilities.isEmpty() applies to a whole String.
+     */
+    private static boolean isBlank(CharSequence s, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(s.charAt(i))) {
+                return false;
             }
-            return value;
         }
+        return true;
+    }
+
+    /**
+     * Parse a decimal number to a long, truncating any fraction toward zero ("45.9" is 45, "-1.5" is -1).
+     * Surrounding whitespace, a sign, digits, and a fraction are handled in a single pass without allocating
+     * or throwing.  Rarer forms (exponents, integer parts beyond the range of a long, non-ASCII digits) and
+     * malformed input fall back to BigDecimal parsing.
+     * @param s     characters to parse, the range [start, end) of which is not empty
+     * @param start index of the first character to parse
+     * @param end   index after the last character to parse
+     * @param low   smallest value allowed
+     * @param high  largest value allowed
+     * @param type  description of the target type, used in the exception message, e.g. "an int"
+     * @return long value between low and high (inclusive).
+     * @throws IllegalArgumentException if the text is not a number, or is outside the range [low, high].
+     */
+    private static long parseLong(CharSequence s, int start, int end, long low, long high, String type) {
+        int i = start;
+        int last = end;
+        while (i < last && s.charAt(i) <= ' ') {
+            i++;
+        }
+        while (last > i && s.charAt(last - 1) <= ' ') {
+            last--;
+        }
+
+        boolean negative = false;
+        if (i < last) {
+            char c = s.charAt(i);
+            if (c == '-') {
+                negative = true;
+                i++;
+            } else if (c == '+') {
+                i++;
+            }
+        }
+
+        // Accumulate negatively, as in Long.parseLong(), so that Long.MIN_VALUE can be represented.
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multmin = limit / 10;
+        long result = 0;
+        int digits = 0;
+        boolean fastPath = true;
+        while (i < last) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (result < multmin || result * 10 < limit + digit) {
+                fastPath = false;
+                break;
+            }
+            result = result * 10 - digit;
+            digits++;
+            i++;
+        }
+
+        if (fastPath && i < last && s.charAt(i) == '.') {
+            i++;
+            while (i < last && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+                digits++;
+                i++;
+            }
+        }
+
+        if (fastPath && i == last && digits > 0) {
+            long value = negative ? result : -result;
+            if (value >= low && value <= high) {
+                return value;
+            }
+            throw new IllegalArgumentException("Value '" + s.subSequence(start, end) + "' not parseable as " + type + " value or outside " + low + " to " + high);
+        }
+
+        String str = s.subSequence(start, end).toString();
+        Long value = bigDecimalToLong(str.trim(), low, high);
+        if (value == null) {
+            throw new IllegalArgumentException("Value '" + str + "' not parseable as " + type + " value or outside " + low + " to " + high);
+        }
+        return value;
     }
 
-    private static Long toLong(String s, BigDecimal low, BigDecimal high) {
+    private static Long bigDecimalToLong(String s, long low, long high) {
         try {
             BigDecimal big = new BigDecimal(s);
             big = big.setScale(0, RoundingMode.DOWN);
-            if (big.compareTo(low) == -1 || big.compareTo(high) == 1) {
+            if (big.compareTo(BigDecimal.valueOf(low)) < 0 || big.compareTo(BigDecimal.valueOf(high)) > 0) {
                 return null;
             }
             return big.longValue();
@@ -166,18 +289,132 @@ final class StringConversions {
         }
     }
 
-    static Double toDouble(Object from, Converter converter) {
+    static double toDouble(Object from, Converter converter) {
         String str = (String) from;
-        if (StringUtilities.isEmpty(str)) {
+        return toDouble(str, 0, str.length());
+    }
+
+    static double toDouble(CharSequence s, int start, int end) {
+        if (isBlank(s, start, end)) {
             return 0.0;
         }
+        double value = parseDouble(s, start, end);
+        if (!Double.isNaN(value)) {
+            return value;
+        }
+        String str = s.subSequence(start, end).toString();
         try {
-            return Double.valueOf(str);
+            return Double.parseDouble(str);
         } catch (Exception e) {
-            throw new IllegalArgumentException("Value '" + from + "' not parseable as a double value", e);
+            throw new IllegalArgumentException("Value '" + str + "' not parseable as a double value", e);
         }
     }
 
+    /**
+     * Parse a plain decimal number (optional surrounding whitespace, sign, digits, fraction, and exponent) to a
+     * double in a single pass.  Only numbers with at most 15 significant digits and a power of ten within 22 are
+     * handled here - those are exactly representable as a long mantissa and a power of ten, so a single multiply
+     * or divide gives the correctly rounded result (the same result as Double.parseDouble()).
+     * @return double value, or NaN if the range [start, end) must be parsed by Double.parseDouble() instead.
+     */
+    private static double parseDouble(CharSequence str, int start, int end) {
+        int i = start;
+        while (i < end && str.charAt(i) <= ' ') {
+            i++;
+        }
+        while (end > i && str.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        boolean negative = false;
+        if (i < end) {
+            char c = str.charAt(i);
+            if (c == '-') {
+                negative = true;
+                i++;
+            } else if (c == '+') {
+                i++;
+            }
+        }
+
+        long mantissa = 0;
+        int significant = 0;
+        int exponent = 0;
+        int digits = 0;
+        char c = 0;
+        for (; i < end; i++) {
+            c = str.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            if (mantissa != 0 || c != '0') {
+                mantissa = mantissa * 10 + (c - '0');
+                significant++;
+            }
+            digits++;
+            if (significant > 15) {
+                return Double.NaN;
+            }
+        }
+        if (i < end && c == '.') {
+            for (i++; i < end; i++) {
+                c = str.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (mantissa != 0 || c != '0') {
+                    mantissa = mantissa * 10 + (c - '0');
+                    significant++;
+                }
+                exponent--;
+                digits++;
+                if (significant > 15) {
+                    return Double.NaN;
+                }
+            }
+        }
+        if (digits == 0) {
+            return Double.NaN;
+        }
+        if (i < end && (c == 'e' || c == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (str.charAt(i) == '-' || str.charAt(i) == '+')) {
+                negativeExponent = str.charAt(i) == '-';
+                i++;
+            }
+            int exp = 0;
+            int expDigits = 0;
+            for (; i < end; i++) {
+                int digit = str.charAt(i) - '0';
+                if (digit < 0 || digit > 9 || exp > 1000) {
+                    return Double.NaN;
+                }
+                exp = exp * 10 + digit;
+                expDigits++;
+            }
+            if (expDigits == 0) {
+                return Double.NaN;
+            }
+            exponent += negativeExponent ? -exp : exp;
+        }
+        if (i != end) {
+            return Double.NaN;
+        }
+
+        double value;
+        if (mantissa == 0) {
+            value = 0.0;
+        } else if (exponent >= 0 && exponent <= 22) {
+            value = mantissa * POWERS_OF_TEN[exponent];
+        } else if (exponent < 0 && exponent >= -22) {
+            value = mantissa / POWERS_OF_TEN[-exponent];
+        } else {
+            return Double.NaN;
+        }
+        return negative ? -value : value;
+    }
+
     static AtomicBoolean toAtomicBoolean(Object from, Converter converter) {
         return new AtomicBoolean(toBoolean(from, converter));
     }
@@ -190,7 +427,7 @@ final class StringConversions {
         return new AtomicLong(toLong(from, converter));
     }
     
-    static Boolean toBoolean(Object from, Converter converter) {
+    static boolean toBoolean(Object from, Converter converter) {
         String str = (String) from;
         // faster equals check "true" and "false"
         if ("true".equals(str)) {
@@ -201,6 +438,32 @@ final class StringConversions {
         return "true".equalsIgnoreCase(str) || "t".equalsIgnoreCase(str) || "1".equals(str) || "y".equalsIgnoreCase(str);
     }
 
+    /**
+     * Same result as toBoolean() gives for s.subSequence(start, end).toString(): "true", "t", "y" (ignoring case)
+     * and "1" are true, everything else (including surrounding whitespace) is false.
+     */
+    static boolean toBoolean(CharSequence s, int start, int end) {
+        int length = end - start;
+        if (length == 1) {
+            char c = s.charAt(start);
+            return c == '1' || equalsIgnoreCase(c, 't') || equalsIgnoreCase(c, 'y');
+        }
+        return length == 4 && equalsIgnoreCase(s.charAt(start), 't') && equalsIgnoreCase(s.charAt(start + 1), 'r')
+                && equalsIgnoreCase(s.charAt(start + 2), 'u') && equalsIgnoreCase(s.charAt(start + 3), 'e');
+    }
+
+    /**
+     * Character comparison performed by String.equalsIgnoreCase().
+     */
+    private static boolean equalsIgnoreCase(char c1, char c2) {
+        if (c1 == c2) {
+            return true;
+        }
+        char u1 = Character.toUpperCase(c1);
+        char u2 = Character.toUpperCase(c2);
+        return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
+    }
+
     static char toCharacter(Object from, Converter converter) {
         String str = (String)from;
         if (str.isEmpty()) {
@@ -222,6 +485,10 @@ final class StringConversions {
         if (StringUtilities.isEmpty(str)) {
             return BigInteger.ZERO;
         }
+        BigDecimal small = parseSmallDecimal(str);
+        if (small != null) {
+            return small.toBigInteger();
+        }
         try {
             BigDecimal bigDec = new BigDecimal(str);
             return bigDec.toBigInteger();
@@ -235,6 +502,10 @@ final class StringConversions {
         if (StringUtilities.isEmpty(str)) {
             return BigDecimal.ZERO;
         }
+        BigDecimal small = parseSmallDecimal(str);
+        if (small != null) {
+            return small;
+        }
         try {
             return new BigDecimal(str);
         } catch (NumberFormatException e) {
@@ -242,6 +513,46 @@ final class StringConversions {
         }
     }
 
+    /**
+     * Parse a plain decimal - optional sign, digits, optional '.' and digits, no exponent - of at most 18 digits
+     * into a BigDecimal built from an unscaled long, with the same value and scale as new BigDecimal(String).
+     * @return BigDecimal, or null if the String is not of that form (leave it to new BigDecimal(String)).
+     */
+    private static BigDecimal parseSmallDecimal(String s) {
+        int len = s.length();
+        if (len > 20) {
+            return null;
+        }
+        int i = 0;
+        boolean negative = false;
+        char c = s.charAt(0);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i = 1;
+        }
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (; i < len; i++) {
+            c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                unscaled = unscaled * 10 + (c - '0');
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return null;
+            }
+        }
+        if (digits == 0 || digits > 18) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
     static URL toURL(Object from, Converter converter) {
         String str = (String) from;
         if (StringUtilities.isEmpty(str)) {
@@ -276,6 +587,48 @@ final class StringConversions {
         }
     }
 
+    /**
+     * Parse the canonical 36 character form of a UUID (8-4-4-4-12 hex digits) directly from the range [start, end).
+     * Any other form is handed to UUID.fromString(), as toUUID() does.
+     */
+    static UUID toUUID(CharSequence s, int start, int end) {
+        if (end - start == 36 && s.charAt(start + 8) == '-' && s.charAt(start + 13) == '-'
+                && s.charAt(start + 18) == '-' && s.charAt(start + 23) == '-') {
+            long time = parseHex(s, start, start + 8);
+            long mid = parseHex(s, start + 9, start + 13);
+            long high = parseHex(s, start + 14, start + 18);
+            long sequence = parseHex(s, start + 19, start + 23);
+            long node = parseHex(s, start + 24, end);
+            if ((time | mid | high | sequence | node) >= 0) {
+                return new UUID(time << 32 | mid << 16 | high, sequence << 48 | node);
+            }
+        }
+        return toUUID(s.subSequence(start, end).toString(), null);
+    }
+
+    /**
+     * @return value of the hex digits in the range [start, end) (at most 15 digits), or -1 if a character in the
+     * range is not an ASCII hex digit.
+     */
+    private static long parseHex(CharSequence s, int start, int end) {
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'a' && c <= 'f') {
+                digit = c - 'a' + 10;
+            } else if (c >= 'A' && c <= 'F') {
+                digit = c - 'A' + 10;
+            } else {
+                return -1;
+            }
+            value = value << 4 | digit;
+        }
+        return value;
+    }
+
     static Duration toDuration(Object from, Converter converter) {
         try {
             return Duration.parse((String) from);
@@ -423,7 +776,130 @@ final class StringConversions {
     }
 
     static ZonedDateTime toZonedDateTime(Object from, Converter converter) {
-        return DateUtilities.parseDate((String)from, converter.getOptions().getZoneId(), true);
+        String str = (String) from;
+        ZonedDateTime zdt = parseIsoDateTime(str, 0, str.length(), converter.getOptions().getZoneId());
+        if (zdt != null) {
+            return zdt;
+        }
+        return parseDate(str, converter);
+    }
+
+    static ZonedDateTime toZonedDateTime(CharSequence s, int start, int end, Converter converter) {
+        ZonedDateTime zdt = parseIsoDateTime(s, start, end, converter.getOptions().getZoneId());
+        if (zdt != null) {
+            return zdt;
+        }
+        return parseDate(s.subSequence(start, end).toString(), converter);
+    }
+
+    /**
+     * DateUtilities.parseDate(), through the Converter's date-time parse cache when it has one.
+     */
+    private static ZonedDateTime parseDate(String str, Converter converter) {
+        DateParseCache cache = converter.getDateParseCache();
+        if (cache != null) {
+            return cache.parse(str, converter.getOptions().getZoneId());
+        }
+        return DateUtilities.parseDate(str, converter.getOptions().getZoneId(), true);
+    }
+
+    /**
+     * Parse the common ISO-8601 forms - yyyy-MM-dd, optionally followed by 'T' (or a space), HH:mm[:ss[.fraction]],
+     * and a 'Z' or +HH:MM offset - in a single pass, without the regular expressions used by DateUtilities.  For
+     * these forms the result is the same as DateUtilities.parseDate() gives, including the zone: the default zone
+     * when none is given, UTC for 'Z', and GMT+HH:MM for an offset.
+     * @return ZonedDateTime, or null if the range [start, end) is in any other form, or has a field out of range,
+     * and must be parsed by DateUtilities.parseDate() instead.
+     */
+    private static ZonedDateTime parseIsoDateTime(CharSequence s, int start, int end, ZoneId defaultZoneId) {
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (end - start < 10 || s.charAt(start + 4) != '-' || s.charAt(start + 7) != '-') {
+            return null;
+        }
+        int year = parseDigits(s, start, 4);
+        int month = parseDigits(s, start + 5, 2);
+        int day = parseDigits(s, start + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+
+        int i = start + 10;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int nanos = 0;
+        ZoneId zoneId = defaultZoneId;
+        if (i < end) {
+            char c = s.charAt(i);
+            if ((c != 'T' && c != ' ') || end - i < 6 || s.charAt(i + 3) != ':') {
+                return null;
+            }
+            hour = parseDigits(s, i + 1, 2);
+            minute = parseDigits(s, i + 4, 2);
+            i += 6;
+            if (i < end && s.charAt(i) == ':') {
+                if (end - i < 3) {
+                    return null;
+                }
+                second = parseDigits(s, i + 1, 2);
+                i += 3;
+                if (i < end && s.charAt(i) == '.') {
+                    long fraction = 0;
+                    int digits = 0;
+                    for (i++; i < end && s.charAt(i) >= '0' && s.charAt(i) <= '9'; i++) {
+                        if (++digits > 9) {
+                            return null;
+                        }
+                        fraction = fraction * 10 + (s.charAt(i) - '0');
+                    }
+                    if (digits == 0) {
+                        return null;
+                    }
+                    // Same arithmetic as DateUtilities (fraction parsed as a double, then scaled), so results match.
+                    nanos = (int) (long) ((fraction / POWERS_OF_TEN[digits]) * 1_000_000_000);
+                }
+            }
+            if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+                return null;
+            }
+            if (i < end) {
+                c = s.charAt(i);
+                if (c == 'Z' && i + 1 == end) {
+                    zoneId = ZoneOffset.UTC;
+                } else if ((c == '+' || c == '-') && end - i == 6 && s.charAt(i + 3) == ':') {
+                    int offsetHours = parseDigits(s, i + 1, 2);
+                    int offsetMinutes = parseDigits(s, i + 4, 2);
+                    if (offsetHours < 0 || offsetHours > 17 || offsetMinutes < 0 || offsetMinutes > 59) {
+                        return null;
+                    }
+                    ZoneOffset offset = c == '-' ? ZoneOffset.ofHoursMinutes(-offsetHours, -offsetMinutes) : ZoneOffset.ofHoursMinutes(offsetHours, offsetMinutes);
+                    zoneId = ZoneId.ofOffset("GMT", offset);
+                } else {
+                    return null;
+                }
+            }
+        }
+        return ZonedDateTime.of(year, month, day, hour, minute, second, nanos, zoneId);
+    }
+
+    /**
+     * @return value of the count ASCII digits starting at start, or -1 if any of them is not a digit.
+     */
+    private static int parseDigits(CharSequence s, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
     }
 
     static ZoneId toZoneId(Object from, Converter converter) {
@@ -523,6 +999,9 @@ final class StringConversions {
     }
     
     static ByteBuffer toByteBuffer(Object from, Converter converter) {
+        if (converter.getOptions().isDirectByteBufferEnabled()) {
+            return CharsetCoders.encodeDirect((CharSequence) from, converter.getOptions().getCharset());
+        }
         return ByteBuffer.wrap(toByteArray(from, converter));
     }
 
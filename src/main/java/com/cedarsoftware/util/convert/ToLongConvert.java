@@ -0,0 +1,32 @@
+package com.cedarsoftware.util.convert;
+
+/**
+ * A {@link Convert} that produces a primitive long.  Conversions registered with this type can be called through
+ * {@link Converter#convertToLong(Object)} without boxing the result.  When called through the regular
+ * {@link Converter#convert(Object, Class)} API, the result is boxed to Long.
+ *
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+@FunctionalInterface
+public interface ToLongConvert extends Convert<Long> {
+    long convertToLong(Object from, Converter converter);
+
+    @Override
+    default Long convert(Object from, Converter converter) {
+        return convertToLong(from, converter);
+    }
+}
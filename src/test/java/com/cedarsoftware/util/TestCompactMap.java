@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -3484,6 +3485,289 @@ public class TestCompactMap
         assert map.getLogicalValueType() == CompactMap.LogicalValueType.MAP;    // ensure switch over
     }
 
+    @Test
+    public void testHashIndexedArray()
+    {
+        // Random puts and removes, against a LinkedHashMap, through every storage tier (compactSize() is 80)
+        Random random = new Random(42);
+        CompactMap<Object, Object> map = new CompactLinkedMap<>();
+        Map<Object, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 20000; i++)
+        {
+            int n = random.nextInt(120);
+            Object key = n == 0 ? null : n % 7 == 0 ? (Object) n : "k" + n;
+            if (random.nextInt(3) == 0)
+            {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            else
+            {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+            if (i % 100 == 0)
+            {
+                assertEquals(expected, map);
+                assertEquals(expected.hashCode(), map.hashCode());
+                assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+                assertEquals(expected.containsValue(i), map.containsValue(i));
+            }
+        }
+
+        // Case-insensitive keys are found by any case once indexed
+        CompactMap<String, Integer> ciMap = new CompactCIHashMap<>();
+        for (int i = 0; i < 40; i++)
+        {
+            ciMap.put("Key" + i, i);
+        }
+        assert ciMap.getLogicalValueType() == CompactMap.LogicalValueType.ARRAY;
+        for (int i = 0; i < 40; i++)
+        {
+            assertEquals(i, ciMap.get("KEY" + i));
+            assertEquals(i, ciMap.put("key" + i, i));
+        }
+        assertEquals(40, ciMap.size());
+        assertEquals(39, ciMap.remove("kEy39"));
+        assertFalse(ciMap.containsKey("KEY39"));
+        assertTrue(ciMap.containsKey("KEY38"));
+
+        // Hash table slots packed as bytes (capacity below 255), shorts, and ints (capacity of 65535 or more)
+        for (final int compactSize : new int[] {200, 1000, 70000})
+        {
+            CompactMap<Integer, Integer> large = new CompactMap<Integer, Integer>()
+            {
+                protected int compactSize() { return compactSize; }
+            };
+            for (int i = 0; i < compactSize; i++)
+            {
+                assertNull(large.put(i, -i));
+            }
+            assert large.getLogicalValueType() == CompactMap.LogicalValueType.ARRAY;
+            for (int i = 0; i < compactSize; i++)
+            {
+                assertEquals(-i, large.get(i));
+            }
+            assertNull(large.get(compactSize));
+            assertEquals(-7, large.remove(7));
+            assertFalse(large.containsKey(7));
+            assertEquals(-(compactSize - 1), large.get(compactSize - 1));
+            assertEquals(compactSize - 1, large.size());
+        }
+    }
+
+    @Test
+    public void testGrowAndTrim()
+    {
+        // Up to compactSize() (80) and back down, with the Object[] growing and shrinking in steps
+        CompactMap<String, Integer> map = new CompactLinkedMap<>();
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 80; i++)
+        {
+            assertNull(map.put("k" + i, i));
+            expected.put("k" + i, i);
+            assertEquals(i, map.get("k" + i));
+            assertEquals(i + 1, map.size());
+            if (i % 10 == 0)
+            {
+                map.trimToSize();
+                assertEquals(expected, map);
+            }
+        }
+        assert map.getLogicalValueType() == CompactMap.LogicalValueType.ARRAY;
+        for (int i = 0; i < 78; i++)
+        {
+            assertEquals(i, map.remove("k" + i));
+            expected.remove("k" + i);
+            assertNull(map.get("k" + i));
+            assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+            assertEquals(expected.hashCode(), map.hashCode());
+        }
+        map.trimToSize();
+        assertEquals(expected, map);
+        assertEquals(79, map.get("k79"));
+        assertFalse(map.containsValue(0));
+
+        // putAll() presizes, and still switches to the Map past compactSize()
+        CompactMap<String, Integer> all = new CompactLinkedMap<>();
+        all.put("a", 1);
+        all.put("b", 2);
+        all.putAll(expected);
+        assertEquals(4, all.size());
+        for (int i = 0; i < 100; i++)
+        {
+            expected.put("k" + i, i);
+        }
+        all.putAll(expected);
+        assert all.getLogicalValueType() == CompactMap.LogicalValueType.MAP;
+        assertEquals(102, all.size());
+        assertEquals(1, all.get("a"));
+        assertEquals(99, all.get("k99"));
+
+        CompactMap<String, Integer> single = new CompactLinkedMap<>();
+        single.put("a", 1);
+        single.putAll(expected);
+        assertEquals(101, single.size());
+    }
+
+    @Test
+    public void testFreeze()
+    {
+        // Maps with the same keys, in the same order, share one shape
+        CompactMap<String, Object> map1 = new CompactLinkedMap<>();
+        CompactMap<String, Object> map2 = new CompactLinkedMap<>();
+        for (int i = 0; i < 40; i++)
+        {
+            map1.put("field" + i, i);
+            map2.put("field" + i, "value" + i);
+        }
+        map2.put("field0", null);
+        FrozenCompactMap<String, Object> frozen1 = (FrozenCompactMap<String, Object>) map1.freeze();
+        FrozenCompactMap<String, Object> frozen2 = (FrozenCompactMap<String, Object>) map2.freeze();
+        assert frozen1.getShape() == frozen2.getShape();
+        assertEquals(map1, frozen1);
+        assertEquals(frozen1, map1);
+        assertEquals(map1.hashCode(), frozen1.hashCode());
+        assertEquals(new ArrayList<>(map1.keySet()), new ArrayList<>(frozen1.keySet()));
+        assertEquals(new ArrayList<>(map2.values()), new ArrayList<>(frozen2.values()));
+        assertEquals(39, frozen1.get("field39"));
+        assertNull(frozen2.get("field0"));
+        assertTrue(frozen2.containsKey("field0"));
+        assertFalse(frozen1.containsKey("FIELD1"));
+        assertNull(frozen1.get("missing"));
+
+        // A snapshot, not a view
+        map1.put("field1", -1);
+        map1.remove("field2");
+        assertEquals(1, frozen1.get("field1"));
+        assertEquals(2, frozen1.get("field2"));
+        assertEquals(40, frozen1.size());
+
+        // Different order, or case sensitivity, is a different shape
+        CompactMap<String, Object> small1 = new CompactLinkedMap<>();
+        small1.put("a", 1);
+        small1.put("b", 2);
+        CompactMap<String, Object> small2 = new CompactLinkedMap<>();
+        small2.put("b", 2);
+        small2.put("a", 1);
+        CompactMap<String, Object> ci = new CompactCILinkedMap<>();
+        ci.put("a", 1);
+        ci.put("b", 2);
+        FrozenCompactMap<String, Object> frozenSmall1 = (FrozenCompactMap<String, Object>) small1.freeze();
+        FrozenCompactMap<String, Object> frozenSmall2 = (FrozenCompactMap<String, Object>) small2.freeze();
+        FrozenCompactMap<String, Object> frozenCi = (FrozenCompactMap<String, Object>) ci.freeze();
+        assert frozenSmall1.getShape() != frozenSmall2.getShape();
+        assert frozenSmall1.getShape() != frozenCi.getShape();
+        assertEquals(frozenSmall1, frozenSmall2);
+        assertEquals(2, frozenCi.get("B"));
+        assertEquals(ci.hashCode(), frozenCi.hashCode());
+
+        // Frozen case-insensitive keys match as the CompactMap matched them, supplementary characters included
+        String upper = "\uD801\uDC00";
+        String lower = "\uD801\uDC28";
+        CompactMap<String, Object> ciOne = new CompactCIHashMap<>();
+        ciOne.put(upper, 1);
+        CompactMap<String, Object> ciMany = new CompactCIHashMap<>();
+        for (int i = 0; i < 20; i++)
+        {
+            ciMany.put(i == 7 ? upper : "key" + i, i);
+        }
+        assertEquals(ciOne.get(lower), ciOne.freeze().get(lower));
+        assertEquals(ciMany.get(lower), ciMany.freeze().get(lower));
+        assertEquals(upper.equalsIgnoreCase(lower), ciMany.freeze().containsKey(lower));
+
+        // Every storage tier freezes
+        assertEquals(0, new CompactMap<String, Object>().freeze().size());
+        CompactMap<String, Object> one = new CompactMap<>();
+        one.put("key", "single");
+        assertEquals("single", one.freeze().get("key"));
+        CompactMap<String, Object> big = new CompactMap<>();
+        for (int i = 0; i < 100; i++)
+        {
+            big.put("k" + i, i);
+        }
+        assertEquals(big, big.freeze());
+
+        // Immutable
+        Map<String, Object> frozen = frozen1;
+        try
+        {
+            frozen.put("field1", 1);
+            fail();
+        }
+        catch (UnsupportedOperationException ignore) { }
+        try
+        {
+            frozen.remove("missing");
+            fail();
+        }
+        catch (UnsupportedOperationException ignore) { }
+        try
+        {
+            frozen.entrySet().iterator().next().setValue(1);
+            fail();
+        }
+        catch (UnsupportedOperationException ignore) { }
+        try
+        {
+            frozen.keySet().clear();
+            fail();
+        }
+        catch (UnsupportedOperationException ignore) { }
+        assertEquals(40, frozen.size());
+    }
+
+    @Test
+    public void testCachedKeyHashes()
+    {
+        // "Aa" and "BB" have the same hashCode(), so equals() must still decide
+        CompactMap<Object, Object> map = new CompactLinkedMap<>();
+        map.put("Aa", 1);
+        map.put("BB", 2);
+        map.put(null, 3);
+        map.put(map, 4);
+        assert map.getLogicalValueType() == CompactMap.LogicalValueType.ARRAY;
+        assertEquals(1, map.get("Aa"));
+        assertEquals(2, map.get("BB"));
+        assertEquals(3, map.get(null));
+        assertEquals(4, map.get(map));
+        assertNull(map.get("C#"));
+        assertEquals(1, map.remove("Aa"));
+        assertNull(map.get("Aa"));
+        assertEquals(2, map.get("BB"));
+
+        // Case-folded hashes match wherever equalsIgnoreCase() does
+        CompactMap<String, Integer> ciMap = new CompactCIHashMap<>();
+        ciMap.put("Title", 1);
+        ciMap.put("ıd", 2);    // dotless i
+        ciMap.put("aA", 3);
+        assertEquals(1, ciMap.get("tITLE"));
+        assertEquals(2, ciMap.get("ID"));
+        assertEquals(2, ciMap.get("id"));
+        assertEquals(3, ciMap.get("Aa"));
+        assertNull(ciMap.get("BB"));
+        assertEquals(2, ciMap.put("Id", 4));
+        assertEquals(3, ciMap.size());
+
+        // Supplementary characters (U+10400 and U+10428) are compared by code point by equalsIgnoreCase() on JDK 16+
+        String upper = "\uD801\uDC00";
+        String lower = "\uD801\uDC28";
+        boolean equal = upper.equalsIgnoreCase(lower);
+        for (int size : new int[] {2, 5, 20})
+        {
+            CompactMap<String, Integer> supplementary = new CompactCIHashMap<>();
+            supplementary.put(upper, 0);
+            for (int i = 1; i < size; i++)
+            {
+                supplementary.put("key" + i, i);
+            }
+            assertEquals(equal ? (Integer) 0 : null, supplementary.get(lower));
+            assertEquals(equal, supplementary.containsKey(lower));
+            assertEquals(0, supplementary.get(upper));
+        }
+    }
+
     @Disabled
     @Test
     public void testPerformance()
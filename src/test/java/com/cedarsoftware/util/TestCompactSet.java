@@ -1,5 +1,6 @@
 package com.cedarsoftware.util;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
@@ -361,6 +362,56 @@ public class TestCompactSet
         clearViaIterator(set);
         clearViaIterator(copy);
     }
+
+    @Test
+    public void testGrowAndTrim()
+    {
+        // Through every size of the Object[] (compactSize() is 80), growing, shrinking, and trimming
+        CompactSet<Integer> set = new CompactSet<>();
+        Set<Integer> expected = new HashSet<>();
+        for (int i = 0; i < 80; i++)
+        {
+            assert set.add(i);
+            expected.add(i);
+            assert set.size() == i + 1;
+            assert set.contains(i);
+            assert !set.add(i);
+            if (i % 10 == 0)
+            {
+                set.trimToSize();
+                assert set.equals(expected);
+            }
+        }
+        for (int i = 0; i < 79; i++)
+        {
+            assert set.remove(i);
+            expected.remove(i);
+            assert !set.contains(i);
+            assert set.equals(expected);
+        }
+        set.trimToSize();
+        assert set.size() == 1;
+        assert set.contains(79);
+
+        // addAll() presizes, and still switches to the Set past compactSize()
+        CompactSet<Integer> all = new CompactSet<>();
+        all.addAll(Arrays.asList(1, 2, 2, 3));
+        assert all.size() == 3;
+        all.addAll(expected);
+        assert all.size() == 4;
+        for (int i = 0; i < 100; i++)
+        {
+            expected.add(i);
+        }
+        all.addAll(expected);
+        assert all.equals(expected);
+        assert all.size() == 100;
+        all.addAll(new HashSet<>());
+        assert all.size() == 100;
+        CompactSet<Integer> none = new CompactSet<>();
+        none.addAll(new HashSet<>());
+        assert none.isEmpty();
+    }
     
     @Disabled
     @Test
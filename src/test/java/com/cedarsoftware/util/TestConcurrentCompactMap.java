@@ -0,0 +1,216 @@
+package com.cedarsoftware.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * @author John DeRegnaucourt (jdereg@gmail.com)
+ *         <br>
+ *         Copyright (c) Cedar Software LLC
+ *         <br><br>
+ *         Licensed under the Apache License, Version 2.0 (the "License");
+ *         you may not use this file except in compliance with the License.
+ *         You may obtain a copy of the License at
+ *         <br><br>
+ *         <a href="http://www.apache.org/licenses/LICENSE-2.0">License</a>
+ *         <br><br>
+ *         Unless required by applicable law or agreed to in writing, software
+ *         distributed under the License is distributed on an "AS IS" BASIS,
+ *         WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *         See the License for the specific language governing permissions and
+ *         limitations under the License.
+ */
+public class TestConcurrentCompactMap
+{
+    @Test
+    public void testAgainstHashMap()
+    {
+        // Random writes, against a HashMap, through every storage tier (compactSize() is 80)
+        Random random = new Random(42);
+        ConcurrentCompactMap<Object, Integer> map = new ConcurrentCompactMap<>();
+        Map<Object, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 20000; i++)
+        {
+            int n = random.nextInt(120);
+            Object key = n % 7 == 0 ? (Object) n : "k" + n;
+            Integer value = random.nextInt(4);
+            switch (random.nextInt(6))
+            {
+                case 0:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                case 1:
+                    assertEquals(expected.putIfAbsent(key, value), map.putIfAbsent(key, value));
+                    break;
+                case 2:
+                    assertEquals(expected.replace(key, value), map.replace(key, value));
+                    break;
+                case 3:
+                    assertEquals(expected.replace(key, 1, value), map.replace(key, 1, value));
+                    break;
+                case 4:
+                    assertEquals(expected.remove(key, 2), map.remove(key, 2));
+                    break;
+                default:
+                    assertEquals(expected.put(key, value), map.put(key, value));
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+            if (i % 100 == 0)
+            {
+                assertEquals(expected, map);
+                assertEquals(map, expected);
+                assertEquals(expected.hashCode(), map.hashCode());
+                assertEquals(expected.containsValue(value), map.containsValue(value));
+            }
+        }
+    }
+
+    @Test
+    public void testSmallTiers()
+    {
+        ConcurrentCompactMap<String, Integer> map = new ConcurrentCompactMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a"));
+        assertNull(map.put("a", 1));
+        assertEquals(1, map.size());
+        assertEquals(1, map.put("a", 2));
+        assertNull(map.put("b", 3));
+        assertNull(map.put("c", 4));
+        assertEquals(3, map.size());
+
+        // Iterators are snapshots that write through
+        Map<String, Integer> seen = new LinkedHashMap<>();
+        Iterator<Map.Entry<String, Integer>> i = map.entrySet().iterator();
+        while (i.hasNext())
+        {
+            Map.Entry<String, Integer> entry = i.next();
+            seen.put(entry.getKey(), entry.getValue());
+            if (entry.getKey().equals("a"))
+            {
+                entry.setValue(5);
+                map.put("d", 6);    // Not seen by this iterator
+            }
+            else if (entry.getKey().equals("b"))
+            {
+                i.remove();
+            }
+        }
+        assertEquals(3, seen.size());
+        assertEquals(5, map.get("a"));
+        assertFalse(map.containsKey("b"));
+        assertEquals(6, map.get("d"));
+        assertEquals(3, map.size());
+
+        map.keySet().remove("a");
+        map.values().remove(4);
+        assertEquals(1, map.size());
+        assertEquals(7, map.merge("d", 1, Integer::sum));
+        map.clear();
+        assertTrue(map.isEmpty());
+
+        try
+        {
+            map.put(null, 1);
+            fail();
+        }
+        catch (NullPointerException ignore) { }
+        try
+        {
+            map.put("a", null);
+            fail();
+        }
+        catch (NullPointerException ignore) { }
+    }
+
+    @Test
+    public void testConcurrentWriters() throws Exception
+    {
+        // Each thread adds, updates, and removes its own keys (through every tier), while all of them count into
+        // shared keys with merge(), and a reader checks what it finds.  No update may be lost.
+        final int threads = 4;
+        final int rounds = 2000;
+        final ConcurrentCompactMap<String, Integer> map = new ConcurrentCompactMap<>();
+        final AtomicBoolean done = new AtomicBoolean();
+        ExecutorService service = Executors.newFixedThreadPool(threads + 1);
+        try
+        {
+            Future<?> reader = service.submit(() ->
+            {
+                while (!done.get())
+                {
+                    for (Map.Entry<String, Integer> entry : map.entrySet())
+                    {
+                        assert entry.getKey() != null && entry.getValue() != null;
+                    }
+                    Integer count = map.get("shared0");
+                    assert count == null || count > 0;
+                }
+            });
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++)
+            {
+                final String prefix = "t" + t + "_";
+                writers.add(service.submit(() ->
+                {
+                    for (int i = 0; i < rounds; i++)
+                    {
+                        String key = prefix + (i % 30);
+                        map.put(key, i);
+                        assertEquals(i, map.get(key));
+                        map.merge("shared" + (i % 3), 1, Integer::sum);
+                        if (i % 3 == 0)
+                        {
+                            assertEquals(i, map.remove(key));
+                        }
+                    }
+                }));
+            }
+            for (Future<?> writer : writers)
+            {
+                writer.get(60, TimeUnit.SECONDS);
+            }
+            done.set(true);
+            reader.get(60, TimeUnit.SECONDS);
+        }
+        finally
+        {
+            service.shutdownNow();
+        }
+
+        int total = 0;
+        for (int s = 0; s < 3; s++)
+        {
+            total += map.get("shared" + s);
+        }
+        assertEquals(threads * rounds, total);
+        for (int t = 0; t < threads; t++)
+        {
+            for (int k = 0; k < 30; k++)
+            {
+                // Last write to each key was at the highest round i with i % 30 == k
+                int last = rounds - 1 - ((rounds - 1 - k) % 30);
+                assertEquals(last % 3 == 0 ? null : last, map.get("t" + t + "_" + k));
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.cedarsoftware.util.convert;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.Charset;
@@ -13,24 +15,38 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
+import java.time.Year;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Currency;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
 import com.cedarsoftware.util.DeepEquals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,9 +76,11 @@ import static com.cedarsoftware.util.convert.MapConversions.ZONE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -3136,6 +3154,54 @@ class ConverterTest
         assertEquals("bar", this.converter.convert(bar, String.class));
     }
 
+    enum Letter
+    {
+        a, A, b { public String toString() { return "bee"; } }
+    }
+
+    @Test
+    void testToEnum()
+    {
+        assertEquals(bar, converter.convert("bar", fubar.class));
+        assertEquals(bar, converter.convert(" BAR ", fubar.class));
+        assertEquals(foo, converter.convert(new StringBuilder("Foo"), fubar.class));
+        assertEquals(fubar.baz, converter.convert(2, fubar.class));
+        assertEquals(fubar.quz, converter.convert(new BigDecimal("3.0"), fubar.class));
+        assertEquals(bar, converter.convert(converter.convert(bar, Map.class), fubar.class));
+        assertEquals(bar, converter.convert(mapOf(VALUE, "bar"), fubar.class));
+        assertSame(foo, converter.convert(foo, fubar.class));
+        assertNull(converter.convert(null, fubar.class));
+        assertNull(converter.convert("  ", fubar.class));
+
+        // Exact names are found before names ignoring case, constants with bodies convert to themselves
+        assertEquals(Letter.A, converter.convert("A", Letter.class));
+        assertEquals(Letter.a, converter.convert("a", Letter.class));
+        assertEquals(Letter.b, converter.convert("B", Letter.class));
+        assertSame(Letter.b, converter.convert(Letter.b, Letter.class));
+
+        EnumConversions.EnumTable table = EnumConversions.getTable(fubar.class);
+        assertSame(table, EnumConversions.getTable(fubar.class));
+        assertEquals(fubar.quz, table.get("quz"));
+        assertNull(table.get("QUZ"));
+        assertEquals(fubar.quz, table.getIgnoreCase("QUZ"));
+        assertNull(table.getIgnoreCase("quux"));
+        assertEquals(foo, table.get(0));
+        assertNull(table.get(4));
+
+        assertThatThrownBy(() -> converter.convert("qux", fubar.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Value 'qux' is not a constant of enum fubar");
+        assertThatThrownBy(() -> converter.convert(4, fubar.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("valid ordinals are 0 to 3");
+        assertThatThrownBy(() -> converter.convert(1.5, fubar.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Value '1.5' is not an ordinal of enum fubar");
+        assertThatThrownBy(() -> converter.convert(UUID.randomUUID(), fubar.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported conversion");
+    }
+
     private static Stream<Arguments> toCharacterParams() {
         return Stream.of(
                 Arguments.of((byte)65),
@@ -4318,6 +4384,72 @@ class ConverterTest
         assertEquals(converter.allSupportedConversions().size(), converter.getSupportedConversions().size());
     }
 
+    @Test
+    void testBigNumbersWithoutStrings()
+    {
+        // Same value and scale as the String based BigDecimal.valueOf(double) and new BigDecimal(String)
+        double[] doubles = {0.0, -0.0, 1.0, -5.0, 0.1, 12345.67, 0.001, 0.00099, 9999999.99, 1e7, 123456.78901234567,
+                1.1f, Math.PI, 1e300, -4.9e-324, 0x1p53, 0x1p53 + 2, 3.2048981551049901E17};
+        for (double d : doubles) {
+            assertEquals(BigDecimal.valueOf(d), converter.convert(d, BigDecimal.class));
+            assertEquals(BigDecimal.valueOf(d).toBigInteger(), converter.convert(d, BigInteger.class));
+        }
+        String[] decimals = {"0", "-0.00", "+5", "1.", ".5", "007.50", "-123456789012345678", "1234567890123456789", "1.5e3"};
+        for (String decimal : decimals) {
+            assertEquals(new BigDecimal(decimal), converter.convert(decimal, BigDecimal.class));
+            assertEquals(new BigDecimal(decimal).toBigInteger(), converter.convert(decimal, BigInteger.class));
+        }
+        assertThatThrownBy(() -> converter.convert(Double.NaN, BigInteger.class))
+                .isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> converter.convert("1.2.3", BigDecimal.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not parseable as a BigDecimal");
+    }
+
+    @Test
+    void testSupportedConversionIndex()
+    {
+        Converter indexed = new Converter(new DefaultConverterOptions());
+        Map<Class<?>, Set<Class<?>>> conversions = indexed.allSupportedConversions();
+        assertSame(conversions, indexed.allSupportedConversions());
+        assertSame(conversions.get(String.class), indexed.getSupportedTargets(String.class));
+        assertTrue(indexed.getSupportedTargets(int.class).contains(String.class));
+        assertTrue(indexed.getSupportedSources(long.class).contains(String.class));
+        assertFalse(indexed.getSupportedTargets(UUID.class).contains(Year.class));
+        assertTrue(indexed.getSupportedSources(ConverterTest.class).isEmpty());
+        // Unmodifiable (before 2.4.9 these were modifiable copies)
+        assertThatThrownBy(() -> conversions.get(String.class).add(ConverterTest.class))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> conversions.put(ConverterTest.class, Collections.emptySet()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> indexed.getSupportedConversions().remove("String"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> indexed.getSupportedConversions().get("String").clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+        Set<Class<?>> stringTargets = indexed.getSupportedTargets(String.class);
+
+        // Added conversions update the index in place of a rebuild (the Maps are live views), and match a rebuilt index
+        indexed.addConversion(UUID.class, Year.class, (fromInstance, converter) -> Year.of(2024));
+        indexed.addConversion(ConverterTest.class, String.class, (fromInstance, converter) -> "test");
+        assertTrue(indexed.getSupportedTargets(UUID.class).contains(Year.class));
+        assertTrue(indexed.getSupportedSources(Year.class).contains(UUID.class));
+        assertEquals(Collections.singleton(String.class), indexed.getSupportedTargets(ConverterTest.class));
+        assertTrue(indexed.getSupportedConversions().get("ConverterTest").contains("String"));
+        assertTrue(conversions.get(UUID.class).contains(Year.class));
+        assertSame(stringTargets, indexed.getSupportedTargets(String.class));     // sets of other classes are kept
+        indexed.addConversion(ConverterTest.class, String.class, Converter.UNSUPPORTED);
+        assertTrue(indexed.getSupportedTargets(ConverterTest.class).isEmpty());
+        assertFalse(conversions.containsKey(ConverterTest.class));
+        assertNull(indexed.getSupportedConversions().get("ConverterTest"));
+        indexed.addConversion(ConverterTest.class, String.class, (fromInstance, converter) -> "test");
+
+        Converter rebuilt = new Converter(new DefaultConverterOptions());
+        rebuilt.addConversion(UUID.class, Year.class, (fromInstance, converter) -> Year.of(2024));
+        rebuilt.addConversion(ConverterTest.class, String.class, (fromInstance, converter) -> "test");
+        assertEquals(rebuilt.allSupportedConversions(), indexed.allSupportedConversions());
+        assertEquals(rebuilt.getSupportedConversions(), indexed.getSupportedConversions());
+    }
+
     @Test
     void testIsConversionSupportedFor()
     {
@@ -4335,6 +4467,543 @@ class ConverterTest
                 .hasMessageContaining("toType cannot be null");
     }
 
+    @Test
+    void testConversionPlan()
+    {
+        ConversionPlan<String, LocalDate> plan = converter.getConverter(String.class, LocalDate.class);
+        assertEquals(String.class, plan.getSourceType());
+        assertEquals(LocalDate.class, plan.getTargetType());
+        assertEquals(LocalDate.of(2024, 2, 18), plan.convert("2024-02-18"));
+        assertEquals(LocalDate.of(1999, 12, 31), plan.convert("1999-12-31"));
+        assertNull(plan.convert(null));
+    }
+
+    @Test
+    void testConversionPlanPrimitives()
+    {
+        ConversionPlan<String, Integer> plan = converter.getConverter(String.class, int.class);
+        assertEquals(45, plan.convert("45"));
+        assertEquals(0, plan.convert(null));
+
+        ConversionPlan<Integer, String> toStr = converter.getConverter(int.class, String.class);
+        assertEquals("17", toStr.convert(17));
+    }
+
+    @Test
+    void testConversionPlanInheritance()
+    {
+        ConversionPlan<DumbNumber, UUID> plan = converter.getConverter(DumbNumber.class, UUID.class);
+        UUID uuid = plan.convert(new DumbNumber("1000"));
+        assertEquals("00000000-0000-0000-0000-0000000003e8", uuid.toString());
+    }
+
+    @Test
+    void testConversionPlanUnsupported()
+    {
+        assertThatThrownBy(() -> converter.getConverter(UUID.class, Boolean.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported conversion, source type [UUID] target type 'Boolean'");
+        assertThatThrownBy(() -> converter.getConverter(String.class, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("toType cannot be null");
+    }
+
+    @Test
+    void testConvertToPrimitives()
+    {
+        assertEquals(45, converter.convertToInt("45"));
+        assertEquals(45, converter.convertToInt("45.0"));
+        assertEquals(7, converter.convertToInt(7L));
+        assertEquals(1, converter.convertToInt(true));
+        assertEquals(0, converter.convertToInt(null));
+        assertEquals(12, converter.convertToInt(new AtomicInteger(12)));
+
+        assertEquals(Long.MAX_VALUE, converter.convertToLong(String.valueOf(Long.MAX_VALUE)));
+        assertEquals(3L, converter.convertToLong(3.9d));
+        assertEquals(0L, converter.convertToLong(null));
+
+        assertEquals(3.5d, converter.convertToDouble("3.5"));
+        assertEquals(42.0d, converter.convertToDouble(42L));
+        assertEquals(0.0d, converter.convertToDouble(null));
+
+        assertTrue(converter.convertToBoolean("true"));
+        assertTrue(converter.convertToBoolean(1));
+        assertFalse(converter.convertToBoolean(0L));
+        assertFalse(converter.convertToBoolean(null));
+    }
+
+    @Test
+    void testConvertToPrimitivesHonorsAddedConversion()
+    {
+        converter.addConversion(String.class, int.class, (fromInstance, converter) -> ((String) fromInstance).length());
+        assertEquals(5, converter.convertToInt("hello"));
+        assertEquals(5, converter.convert("hello", int.class));
+    }
+
+    @Test
+    void testConvertArray()
+    {
+        Object[] source = new Object[] {"2024-02-18", null, LocalDate.of(1999, 12, 31), "2000-01-01"};
+        LocalDate[] dates = converter.convertArray(source, LocalDate.class);
+        assertEquals(4, dates.length);
+        assertEquals(LocalDate.of(2024, 2, 18), dates[0]);
+        assertNull(dates[1]);
+        assertEquals(LocalDate.of(1999, 12, 31), dates[2]);
+        assertEquals(LocalDate.of(2000, 1, 1), dates[3]);
+
+        String[] strings = converter.convertArray(new Object[] {1, 2L, 3.5d, true}, String.class);
+        assertEquals("1", strings[0]);
+        assertEquals("2", strings[1]);
+        assertEquals("3.5", strings[2]);
+        assertEquals("true", strings[3]);
+
+        assertThatThrownBy(() -> converter.convertArray(new Object[] {1}, long.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("use convertColumn()");
+        assertThatThrownBy(() -> converter.convertArray(new Object[] {"x", UUID.randomUUID()}, Boolean.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported conversion, source type [UUID");
+        assertThatThrownBy(() -> converter.convertArray(new Object[] {null, null}, Thread.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported conversion, source type [null] target type 'Thread'");
+    }
+
+    @Test
+    void testConvertColumn()
+    {
+        Object[] source = new Object[] {"45", 7, null, 3.9d, new BigDecimal("12"), "8"};
+        long[] longs = converter.convertColumn(source, new long[source.length]);
+        assertArrayEquals(new long[] {45, 7, 0, 3, 12, 8}, longs);
+
+        int[] ints = converter.convertColumn(source, new int[source.length]);
+        assertArrayEquals(new int[] {45, 7, 0, 3, 12, 8}, ints);
+
+        double[] doubles = converter.convertColumn(source, new double[source.length]);
+        assertArrayEquals(new double[] {45, 7, 0, 3.9d, 12, 8}, doubles);
+
+        boolean[] bools = converter.convertColumn(new Object[] {"true", 0, null, 1L}, new boolean[4]);
+        assertArrayEquals(new boolean[] {true, false, false, true}, bools);
+
+        assertThatThrownBy(() -> converter.convertColumn(source, new long[2]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("smaller than source array length");
+    }
+
+    @Test
+    void testConvertColumnParallel()
+    {
+        Converter parallel = new Converter(new ConverterOptions() {
+            @Override
+            public int getParallelConversionThreshold() {
+                return 1000;
+            }
+        });
+        Object[] source = new Object[100_000];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = (i % 2 == 0) ? String.valueOf(i) : Integer.valueOf(i);
+        }
+        long[] longs = parallel.convertColumn(source, new long[source.length]);
+        String[] strings = parallel.convertArray(source, String.class);
+        for (int i = 0; i < source.length; i++) {
+            assertEquals(i, longs[i]);
+            assertEquals(String.valueOf(i), strings[i]);
+        }
+    }
+
+    @Test
+    void testConvertAll()
+    {
+        List<Object> source = Arrays.asList("2024-02-18", null, LocalDate.of(1999, 12, 31), "2000-01-01");
+        List<LocalDate> dates = converter.convertAll(source, LocalDate.class, ArrayList::new);
+        assertEquals(Arrays.asList(LocalDate.of(2024, 2, 18), null, LocalDate.of(1999, 12, 31), LocalDate.of(2000, 1, 1)), dates);
+
+        Set<Long> longs = converter.convertAll(Arrays.asList("3", 1, null, 3L, 2.7d), long.class, LinkedHashSet::new);
+        assertEquals(Arrays.asList(3L, 1L, 0L, 2L), new ArrayList<>(longs));
+
+        assertThatThrownBy(() -> converter.convertAll(Arrays.asList("x", UUID.randomUUID()), Boolean.class, ArrayList::new))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported conversion, source type [UUID");
+        assertThatThrownBy(() -> converter.convertAll(source, null, ArrayList::new))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("elementType cannot be null");
+        assertThatThrownBy(() -> converter.convertAll(source, String.class, ArrayList::new, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("executor cannot be null");
+    }
+
+    @Test
+    void testConvertAllParallel()
+    {
+        List<Object> source = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            source.add((i % 2 == 0) ? String.valueOf(i) : Integer.valueOf(i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Long> viaExecutor = converter.convertAll(source, Long.class, ArrayList::new, executor);
+            List<String> viaPool = converter.convertAll(source, String.class, () -> new ArrayList<>(source.size()), ForkJoinPool.commonPool());
+            for (int i = 0; i < source.size(); i++) {
+                assertEquals(i, viaExecutor.get(i));
+                assertEquals(String.valueOf(i), viaPool.get(i));
+            }
+
+            source.set(77_777, "not a number");
+            assertThatThrownBy(() -> converter.convertAll(source, long.class, ArrayList::new, executor))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Value 'not a number' not parseable as a long value");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testAddConversionIsScopedToInstance()
+    {
+        Converter other = new Converter(new DefaultConverterOptions());
+        Convert<?> prior = converter.addConversion(String.class, Long.class, (fromInstance, converter) -> -1L);
+        assert prior != null;
+        assertEquals(-1L, converter.convert("5", Long.class));
+        assertEquals(5L, other.convert("5", Long.class));
+        assertEquals(5L, new Converter(new DefaultConverterOptions()).convert("5", Long.class));
+    }
+
+    @Test
+    void testConverterOverridesFromOptions()
+    {
+        DefaultConverterOptions options = new DefaultConverterOptions();
+        options.getConverterOverrides().put(Converter.pair(String.class, Long.class), (fromInstance, converter) -> 99L);
+        Converter custom = new Converter(options);
+        assertEquals(99L, custom.convert("5", Long.class));
+        assertEquals(5, custom.convert("5", Integer.class));
+        assertEquals(5L, converter.convert("5", Long.class));
+    }
+
+    @Test
+    void testConvertOrDefault()
+    {
+        UUID uuid = UUID.fromString("00000000-0000-0000-0000-000000000001");
+        assertEquals(Boolean.FALSE, converter.convertOrDefault(uuid, Boolean.class, false));
+        assertEquals(Boolean.TRUE, converter.convertOrDefault(uuid, boolean.class, true));
+        assertEquals(45L, converter.convertOrDefault("45", Long.class, -1L));
+        assertEquals(0L, converter.convertOrDefault(null, long.class, -1L));
+        assertNull(converter.convertOrDefault(null, Long.class, -1L));
+
+        // Supported conversion, but the value cannot be converted
+        assertThatThrownBy(() -> converter.convertOrDefault("abc", int.class, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not parseable as an int value");
+
+        // Unsupported results are remembered, and forgotten when a conversion is added
+        assertFalse(converter.isConversionSupportedFor(UUID.class, Boolean.class));
+        converter.addConversion(UUID.class, Boolean.class, (fromInstance, converter) -> true);
+        assertTrue(converter.isConversionSupportedFor(UUID.class, Boolean.class));
+        assertEquals(Boolean.TRUE, converter.convertOrDefault(uuid, Boolean.class, false));
+    }
+
+    @Test
+    void testMultiHopConversion()
+    {
+        ConverterOptions options = new DefaultConverterOptions() {
+            @Override
+            public boolean isMultiHopConversionEnabled() { return true; }
+        };
+        Converter multiHop = new Converter(options);
+
+        // No direct conversion from Year to Character - found via Year -> Integer -> Character
+        assertFalse(converter.isConversionSupportedFor(Year.class, Character.class));
+        assertTrue(multiHop.isConversionSupportedFor(Year.class, Character.class));
+        assertEquals('A', multiHop.convert(Year.of(65), Character.class));
+        assertEquals('B', (char) multiHop.convert(Year.of(66), char.class));
+        assertEquals('C', multiHop.getConverter(Year.class, Character.class).convert(Year.of(67)));
+
+        // No path at all
+        Currency usd = Currency.getInstance("USD");
+        assertThatThrownBy(() -> multiHop.convert(usd, Year.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported conversion, source type [Currency (USD)] target type 'Year'");
+
+        // String, Boolean, AtomicBoolean and Map are never a hop, and pairs registered as unsupported are never used
+        ZoneId zone = ZoneId.of("America/New_York");
+        Object[][] unsupported = {{zone, Locale.class}, {zone, Boolean.class}, {zone, URI.class},
+                {UUID.randomUUID(), Boolean.class}, {Locale.US, Year.class}, {ZoneOffset.UTC, TimeZone.class},
+                {zone, ZoneOffset.class}, {TimeZone.getTimeZone("UTC"), ZoneOffset.class}};
+        for (Object[] pair : unsupported) {
+            Class<?> toType = (Class<?>) pair[1];
+            assertFalse(multiHop.isConversionSupportedFor(pair[0].getClass(), toType));
+            assertThatThrownBy(() -> multiHop.convert(pair[0], toType))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Unsupported conversion");
+        }
+
+        // Added conversions join the graph, and a null from a hop finishes as null converted to the target
+        multiHop.addConversion(Currency.class, Integer.class, (fromInstance, converter) -> ((Currency) fromInstance).getDefaultFractionDigits() == 2 ? 2024 : null);
+        assertEquals(Year.of(2024), multiHop.convert(usd, Year.class));
+        assertNull(multiHop.convert(Currency.getInstance("JPY"), Year.class));
+    }
+
+    @Test
+    void testConversionMetrics() throws Exception
+    {
+        ConverterOptions options = new DefaultConverterOptions() {
+            @Override
+            public boolean isMetricsEnabled() { return true; }
+        };
+        Converter metered = new Converter(options);
+        metered.convert("5", Long.class);
+        metered.convert("6", long.class);
+        metered.convert("7", Long.class);
+        assertEquals(8, metered.convertToInt("8"));
+        assertThatThrownBy(() -> metered.convert("abc", int.class)).isInstanceOf(IllegalArgumentException.class);
+        metered.convert(new GregorianCalendar(), Long.class);
+        assertThatThrownBy(() -> metered.convert(UUID.randomUUID(), Boolean.class)).hasMessageContaining("Unsupported conversion");
+
+        List<ConversionStats> stats = metered.getConversionStats();
+        assertEquals(4, stats.size());
+        ConversionStats stringToLong = stats.get(0);    // most converted first
+        assertSame(String.class, stringToLong.getSourceType());
+        assertSame(Long.class, stringToLong.getTargetType());
+        assertEquals(3, stringToLong.getCalls());
+        assertEquals(0, stringToLong.getInheritanceMisses());
+        assertEquals(0, stringToLong.getExceptions());
+        assertEquals(3, Arrays.stream(stringToLong.getLatencyHistogram()).sum());
+        assertTrue(stringToLong.getLatencyPercentileNanos(99.0) > 0);
+
+        for (ConversionStats pair : stats) {
+            if (pair.getSourceType() == String.class && pair.getTargetType() == Integer.class) {
+                assertEquals(2, pair.getCalls());
+                assertEquals(1, pair.getExceptions());
+            } else if (pair.getSourceType() == GregorianCalendar.class) {
+                assertEquals(1, pair.getInheritanceMisses());
+                assertEquals(0, pair.getExceptions());
+            } else if (pair.getSourceType() == UUID.class) {
+                assertEquals(1, pair.getInheritanceMisses());
+                assertEquals(1, pair.getExceptions());
+            }
+        }
+
+        // JMX
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = metered.registerMetricsMBean("testConversionMetrics");
+        try {
+            assertEquals(7L, server.getAttribute(name, "TotalCalls"));
+            assertEquals(2L, server.getAttribute(name, "TotalExceptions"));
+
+            // Classes with the same short name are separate pairs
+            metered.convert(new java.util.Date(1), Long.class);
+            metered.convert(new java.sql.Date(2), Long.class);
+            TabularData calls = (TabularData) server.getAttribute(name, "CallCounts");
+            assertEquals(6, calls.size());
+            assertEquals(3L, calls.get(new Object[] {"java.lang.String -> java.lang.Long"}).get("value"));
+            assertEquals(1L, calls.get(new Object[] {"java.util.Date -> java.lang.Long"}).get("value"));
+            assertEquals(1L, calls.get(new Object[] {"java.sql.Date -> java.lang.Long"}).get("value"));
+            assertThatThrownBy(() -> metered.registerMetricsMBean("testConversionMetrics")).isInstanceOf(IllegalStateException.class);
+        } finally {
+            server.unregisterMBean(name);
+        }
+
+        metered.resetConversionStats();
+        assertTrue(metered.getConversionStats().isEmpty());
+
+        // Not enabled
+        converter.convert("5", Long.class);
+        assertTrue(converter.getConversionStats().isEmpty());
+        assertThatThrownBy(() -> converter.registerMetricsMBean("notEnabled")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void testFieldSink()
+    {
+        FieldSink<UUID> uuidSink = converter.newFieldSink(UUID.class);
+        UUID uuid = uuidSink.put(MapConversions.MOST_SIG_BITS, 0x123e4567e89b12d3L).put(MapConversions.LEAST_SIG_BITS, 0xa456426614174000L).build();
+        assertEquals(UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), uuid);
+        // Reused - fields were cleared by build()
+        assertEquals(uuid, uuidSink.put(MapConversions.UUID, "123e4567-e89b-12d3-a456-426614174000").build());
+        assertEquals(uuid, uuidSink.put(MapConversions.MOST_SIG_BITS, "1314564453825188563").put(MapConversions.LEAST_SIG_BITS, 0xa456426614174000L).build());
+
+        // Same results as converting a Map with the same keys and values
+        long millis = 1708266645123L;
+        Map<String, Object> map = mapOf(MapConversions.EPOCH_MILLIS, millis);
+        assertEquals(converter.convert(map, Calendar.class), converter.newFieldSink(Calendar.class).put(MapConversions.EPOCH_MILLIS, millis).build());
+        assertEquals(converter.convert(map, ZonedDateTime.class), converter.newFieldSink(ZonedDateTime.class).put(MapConversions.EPOCH_MILLIS, millis).build());
+        assertEquals(converter.convert(map, Date.class), converter.newFieldSink(Date.class).put(MapConversions.EPOCH_MILLIS, millis).build());
+        assertEquals(converter.convert(mapOf(MapConversions.SECONDS, 1708266645L, MapConversions.NANOS, 123000000), Instant.class),
+                converter.newFieldSink(Instant.class).put(MapConversions.SECONDS, 1708266645L).put(MapConversions.NANOS, 123000000).build());
+
+        FieldSink<ZonedDateTime> zdtSink = converter.newFieldSink(ZonedDateTime.class);
+        ZonedDateTime zdt = zdtSink.put(MapConversions.DATE, "2024-02-18").put(MapConversions.TIME, "14:30:45").put(MapConversions.ZONE, "America/New_York").build();
+        assertEquals(ZonedDateTime.of(2024, 2, 18, 14, 30, 45, 0, ZoneId.of("America/New_York")), zdt);
+        assertEquals(45L, converter.newFieldSink(long.class).put(VALUE, "45").build());
+
+        assertThatThrownBy(() -> uuidSink.put("foo", "bar").build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("To convert from Map to 'UUID' the map must include: [UUID], [mostSigBits, leastSigBits], [value], or [_v] as keys with associated values.");
+        assertThatThrownBy(() -> converter.newFieldSink(Currency.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unsupported conversion, source type [Map] target type 'Currency'");
+
+        // Added conversions are honored
+        UUID fixed = UUID.randomUUID();
+        converter.addConversion(Map.class, UUID.class, (fromInstance, converter) -> fixed);
+        assertSame(fixed, uuidSink.put(MapConversions.MOST_SIG_BITS, 1L).put(MapConversions.LEAST_SIG_BITS, 2L).build());
+    }
+
+    @Test
+    void testConvertCharSequenceRange()
+    {
+        String line = "42, -7.9 ,3.25,TRUE,123e4567-e89b-12d3-a456-426614174000,2024-02-18T14:30:45.5-05:00,2024-02-18,,x";
+        StringBuilder sb = new StringBuilder(line);
+        char[] chars = line.toCharArray();
+        String[] fields = line.split(",", -1);
+        Class<?>[] types = {int.class, Long.class, double.class, boolean.class, UUID.class, ZonedDateTime.class, LocalDate.class, int.class, String.class};
+        int offset = 0;
+        for (int i = 0; i < fields.length; i++) {
+            Object expected = converter.convert(fields[i], types[i]);
+            assertEquals(expected, converter.convert(sb, offset, fields[i].length(), types[i]));
+            assertEquals(expected, converter.convert(chars, offset, fields[i].length(), types[i]));
+            assertEquals(expected, converter.convert(CharBuffer.wrap(line), offset, fields[i].length(), types[i]));
+            offset += fields[i].length() + 1;
+        }
+        assertEquals(-7L, converter.convert(line, 3, 6, long.class));
+        assertEquals(ZonedDateTime.of(2024, 2, 18, 14, 30, 45, 500_000_000, ZoneId.of("GMT-05:00")), converter.convert(line, 57, 27, ZonedDateTime.class));
+        assertEquals(LocalDate.of(2024, 2, 18), converter.convert(line, 57, 10, LocalDate.class));
+        assertEquals(0, converter.convert(line, 96, 0, int.class));
+        assertNull(converter.convert(line, 96, 0, Instant.class));
+        assertNull(converter.convert((CharSequence) null, 0, 0, Integer.class));
+        assertEquals(0L, converter.convert((char[]) null, 0, 0, long.class));
+
+        assertThatThrownBy(() -> converter.convert(line, 10, line.length(), int.class))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> converter.convert(line, -1, 2, int.class))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> converter.convert(line, 15, 4, int.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Value 'TRUE' not parseable as an int value");
+        assertThatThrownBy(() -> converter.convert(line, 0, 4, UUID.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unable to convert '42, ' to UUID");
+
+        // Added conversions are honored
+        converter.addConversion(String.class, Integer.class, (fromInstance, converter) -> -1);
+        assertEquals(-1, converter.convert(line, 0, 2, int.class));
+    }
+
+    @Test
+    void testDateParseCache()
+    {
+        ZoneId[] zone = {ZoneId.of("America/New_York")};
+        Converter caching = new Converter(new DefaultConverterOptions() {
+            @Override
+            public ZoneId getZoneId() { return zone[0]; }
+
+            @Override
+            public int getDateParseCacheSize() { return 2; }
+        });
+        String date = "Feb 18, 2024 14:30:45";
+        ZonedDateTime expected = ZonedDateTime.of(2024, 2, 18, 14, 30, 45, 0, zone[0]);
+        assertEquals(expected, caching.convert(date, ZonedDateTime.class));
+        assertEquals(expected.toInstant(), caching.convert(date, Instant.class));
+        assertEquals(Date.from(expected.toInstant()), caching.convert(date, Date.class));
+        DateParseCacheStats stats = caching.getDateParseCacheStats();
+        assertEquals(2, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getSize());
+
+        // The options' zone is honored for Strings without one
+        zone[0] = ZoneId.of("Asia/Tokyo");
+        assertEquals(ZonedDateTime.of(2024, 2, 18, 14, 30, 45, 0, zone[0]), caching.convert(date, ZonedDateTime.class));
+        assertEquals(2, caching.getDateParseCacheStats().getMisses());
+
+        // ISO-8601 Strings, empty Strings, and failed parses do not use the cache
+        caching.convert("2024-02-18T14:30:45Z", Instant.class);
+        assertNull(caching.convert("", Instant.class));
+        assertThatThrownBy(() -> caching.convert("Feb 31st, 2024 99:00", Date.class))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertEquals(3, caching.getDateParseCacheStats().getMisses());
+        assertEquals(1, caching.getDateParseCacheStats().getSize());
+
+        // Strings not converted since the clock hand last passed them are evicted, Strings converted again are spared
+        caching.convert("Jan 1, 2024", LocalDate.class);
+        caching.convert("Jan 2, 2024", LocalDate.class);
+        stats = caching.getDateParseCacheStats();
+        assertEquals(2, stats.getSize());
+        assertEquals(1, stats.getEvictions());
+        assertEquals(2, stats.getCapacity());
+        caching.convert("Jan 2, 2024", LocalDate.class);
+        caching.convert("Jan 3, 2024", LocalDate.class);
+        long misses = caching.getDateParseCacheStats().getMisses();
+        assertEquals(LocalDate.of(2024, 1, 2), caching.convert("Jan 2, 2024", LocalDate.class));
+        assertEquals(LocalDate.of(2024, 1, 3), caching.convert("Jan 3, 2024", LocalDate.class));
+        stats = caching.getDateParseCacheStats();
+        assertEquals(misses, stats.getMisses());
+        assertEquals(2, stats.getEvictions());
+
+        caching.clearDateParseCache();
+        assertEquals(0, caching.getDateParseCacheStats().getSize());
+        assertEquals(0, caching.getDateParseCacheStats().getHits());
+        assertEquals(0, converter.getDateParseCacheStats().getCapacity());
+    }
+
+    @Test
+    void testByteBufferConversions()
+    {
+        String text = "Grüße, 世界";
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+
+        // Direct buffers, and heap buffers that are slices of a larger array, decode only their remaining bytes
+        ByteBuffer direct = ByteBuffer.allocateDirect(utf8.length + 4);
+        direct.put(new byte[] {'x', 'x'}).put(utf8).put(new byte[] {'y', 'y'});
+        direct.position(2).limit(2 + utf8.length);
+        byte[] padded = new byte[utf8.length + 3];
+        System.arraycopy(utf8, 0, padded, 3, utf8.length);
+        ByteBuffer slice = ((ByteBuffer) ByteBuffer.wrap(padded).position(3)).slice();
+        for (ByteBuffer buffer : new ByteBuffer[] {direct, slice, slice.asReadOnlyBuffer()}) {
+            int position = buffer.position();
+            assertEquals(text, converter.convert(buffer, String.class));
+            assertEquals(text, converter.convert(buffer, StringBuilder.class).toString());
+            assertArrayEquals(utf8, converter.convert(buffer, byte[].class));
+            assertArrayEquals(text.toCharArray(), converter.convert(buffer, char[].class));
+            assertEquals(position, buffer.position());
+        }
+
+        ByteBuffer heap = converter.convert(text, ByteBuffer.class);
+        assertFalse(heap.isDirect());
+        assertEquals(ByteBuffer.wrap(utf8), heap);
+
+        Converter directConverter = new Converter(new DefaultConverterOptions() {
+            @Override
+            public boolean isDirectByteBufferEnabled() { return true; }
+        });
+        for (Object source : new Object[] {text, new StringBuilder(text), CharBuffer.wrap(text), text.toCharArray(), utf8}) {
+            ByteBuffer buffer = directConverter.convert(source, ByteBuffer.class);
+            assertTrue(buffer.isDirect());
+            assertEquals(0, buffer.position());
+            assertEquals(ByteBuffer.wrap(utf8), buffer);
+        }
+        // Larger than the pooled encode buffer
+        StringBuilder large = new StringBuilder();
+        while (large.length() < 100_000) {
+            large.append(text);
+        }
+        assertEquals(large.toString(), directConverter.convert(directConverter.convert(large, ByteBuffer.class), String.class));
+
+        // Larger payloads are kept in a buffer of exactly the encoded size, whether mostly ASCII or not
+        StringBuilder ascii = new StringBuilder();
+        while (ascii.length() < 200_000) {
+            ascii.append("plain ascii text, ");
+        }
+        StringBuilder wide = new StringBuilder();
+        while (wide.length() < 100_000) {
+            wide.append("世界");
+        }
+        for (String payload : new String[] {large.toString(), ascii.toString(), wide.toString()}) {
+            byte[] encoded = payload.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer buffer = directConverter.convert(payload, ByteBuffer.class);
+            assertTrue(buffer.isDirect());
+            assertEquals(encoded.length, buffer.capacity());
+            assertEquals(ByteBuffer.wrap(encoded), buffer);
+        }
+    }
+
     @Test
     void testMapToThrowable()
     {
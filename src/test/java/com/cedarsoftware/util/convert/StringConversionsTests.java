@@ -21,6 +21,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class StringConversionsTests {
 
@@ -274,6 +275,68 @@ class StringConversionsTests {
         assertThat(this.converter.convert("\t \r\n", c)).isNull();
     }
 
+    private static Stream<Arguments> toLong_decimalFormattedParams() {
+        return Stream.of(
+                Arguments.of("45", 45L),
+                Arguments.of("45.0", 45L),
+                Arguments.of("+45.9", 45L),
+                Arguments.of("-45.9", -45L),
+                Arguments.of("-0.5", 0L),
+                Arguments.of(".5", 0L),
+                Arguments.of("5.", 5L),
+                Arguments.of(" 12 ", 12L),
+                Arguments.of("\t12.00\r\n", 12L),
+                Arguments.of("1.5e2", 150L),
+                Arguments.of("1E3", 1000L),
+                Arguments.of("9223372036854775807.9", Long.MAX_VALUE),
+                Arguments.of("-9223372036854775808.5", Long.MIN_VALUE)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("toLong_decimalFormattedParams")
+    void toLong_decimalFormatted_truncates(String source, long value) {
+        assertThat(this.converter.convert(source, long.class)).isEqualTo(value);
+        assertThat(this.converter.convertToLong(source)).isEqualTo(value);
+    }
+
+    @ParameterizedTest
+    @MethodSource("toLong_decimalFormattedParams")
+    void toInt_decimalFormatted_outsideRange(String source, long value) {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            assertThat(this.converter.convert(source, int.class)).isEqualTo((int) value);
+        } else {
+            assertThatThrownBy(() -> this.converter.convert(source, int.class))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("not parseable as an int value or outside -2147483648 to 2147483647");
+        }
+    }
+
+    private static Stream<Arguments> toDouble_params() {
+        return Stream.of(
+                Arguments.of("45"),
+                Arguments.of("-45.125"),
+                Arguments.of(" 0.1 "),
+                Arguments.of("0.000001234"),
+                Arguments.of("123456789012345"),
+                Arguments.of("1234567890123456789"),
+                Arguments.of("1.7976931348623157E308"),
+                Arguments.of("4.9e-324"),
+                Arguments.of("2.5e-3"),
+                Arguments.of("-0"),
+                Arguments.of("12d"),
+                Arguments.of("NaN"),
+                Arguments.of("-Infinity")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("toDouble_params")
+    void toDouble_matchesDoubleParseDouble(String source) {
+        double expected = Double.parseDouble(source);
+        assertThat(Double.doubleToLongBits(this.converter.convert(source, double.class))).isEqualTo(Double.doubleToLongBits(expected));
+    }
+
     private ConverterOptions createCustomZones(final ZoneId targetZoneId)
     {
         return new ConverterOptions() {